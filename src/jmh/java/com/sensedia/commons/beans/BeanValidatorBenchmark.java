@@ -0,0 +1,70 @@
+package com.sensedia.commons.beans;
+
+import com.sensedia.demo.adapters.dtos.UserCreationDto;
+import com.sensedia.demo.adapters.dtos.UserUpdateDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolationException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanValidatorBenchmark {
+
+  private UserCreationDto validUserCreation;
+  private UserUpdateDto validUserUpdate;
+  private UserCreationDto invalidUserCreation;
+
+  @Setup
+  public void setup() {
+    validUserCreation = new UserCreationDto();
+    validUserCreation.setName("Thiago Costa");
+    validUserCreation.setEmail("thiago.costa@sensedia.com");
+
+    validUserUpdate = new UserUpdateDto();
+    validUserUpdate.setName("Thiago Costa");
+    validUserUpdate.setEmail("thiago.costa@sensedia.com");
+    validUserUpdate.setStatus("ACTIVE");
+
+    invalidUserCreation = new UserCreationDto();
+    invalidUserCreation.setName("Thiago Costa");
+    invalidUserCreation.setEmail("thiago.costa.sensedia.com");
+
+    BeanValidator.preload(UserCreationDto.class, UserUpdateDto.class);
+  }
+
+  @Benchmark
+  public UserCreationDto validUserCreation() {
+    BeanValidator.validate(validUserCreation);
+    return validUserCreation;
+  }
+
+  @Benchmark
+  public UserUpdateDto validUserUpdate() {
+    BeanValidator.validate(validUserUpdate);
+    return validUserUpdate;
+  }
+
+  @Benchmark
+  public ConstraintViolationException invalidUserCreation() {
+    try {
+      BeanValidator.validate(invalidUserCreation);
+      return null;
+    } catch (ConstraintViolationException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.sensedia.commons.converters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstantConverterBenchmark {
+
+  @Param({
+    "2020-03-23T16:09:01.035Z",
+    "2020-03-23T16:09:01.035123456Z",
+    "2020-03-23T16:09:01Z",
+    "2020-03-23T16:09:01.035",
+    "2020-03-23T16:09:01",
+    "2020-03-23T16:09",
+    "2020-03-23"
+  })
+  private String date;
+
+  private final InstantConverter instantConverter = new InstantConverter();
+
+  @Benchmark
+  public Instant singlePass() {
+    return instantConverter.toInstant(date);
+  }
+
+  @Benchmark
+  public Instant exceptionChain() {
+    try {
+      return Instant.parse(date);
+    } catch (DateTimeParseException e) {
+      try {
+        return LocalDateTime.parse(date).atZone(ZoneId.systemDefault()).toInstant();
+      } catch (DateTimeParseException ex) {
+        return LocalDate.parse(date).atStartOfDay().atZone(ZoneId.systemDefault()).toInstant();
+      }
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package com.sensedia.commons.errors.resolvers;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.sensedia.commons.beans.BeanValidator;
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import com.sensedia.commons.errors.exceptions.NotFoundException;
+import com.sensedia.demo.adapters.dtos.UserCreationDto;
+import com.sensedia.demo.adapters.dtos.UserUpdateDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingRequestHeaderException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+
+import javax.validation.ConstraintViolationException;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionResolverBenchmark {
+
+  @Param({
+    "application",
+    "constraintViolation",
+    "dateTimeParse",
+    "httpMessageNotReadable",
+    "httpRequestMethodNotSupported",
+    "illegalArgument",
+    "jsonMapping",
+    "methodArgumentNotValid",
+    "methodArgumentTypeMismatch",
+    "missingRequestHeader",
+    "missingServletRequestParameter",
+    "noHandlerFound",
+    "responseStatus",
+    "unresolved"
+  })
+  private String type;
+
+  private ExceptionResolver exceptionResolver;
+  private Throwable exception;
+
+  @Setup
+  public void setup() throws Exception {
+    exceptionResolver =
+        new ExceptionResolver(
+            new ApplicationExceptionResolver(),
+            new ConstraintViolationExceptionResolver(),
+            new DateTimeParseExceptionResolver(),
+            new HttpMessageNotReadableExceptionResolver(),
+            new HttpRequestMethodNotSupportedExceptionResolver(),
+            new IllegalArgumentExceptionResolver(),
+            new JsonMappingExceptionResolver(),
+            new MethodArgumentNotValidExceptionResolver(),
+            new MethodArgumentTypeMismatchExceptionResolver(),
+            new MissingRequestHeaderExceptionResolver(),
+            new MissingServletRequestParameterExceptionResolver(),
+            new NoHandlerFoundExceptionResolver(),
+            new ResponseStatusExceptionResolver());
+
+    exception = exceptions().get(type);
+  }
+
+  @Benchmark
+  public DefaultErrorResponse solve() {
+    return exceptionResolver.solve(exception);
+  }
+
+  private Map<String, Throwable> exceptions() throws Exception {
+    MethodParameter parameter =
+        MethodParameter.forExecutable(
+            ExceptionResolverBenchmark.class.getDeclaredMethod("handle", String.class), 0);
+
+    JsonMappingException jsonMappingException =
+        JsonMappingException.wrapWithPath(
+            new JsonMappingException(null, "Invalid value"), UserUpdateDto.class, "status");
+
+    BeanPropertyBindingResult bindingResult =
+        new BeanPropertyBindingResult(new UserUpdateDto(), "userUpdateDto");
+    bindingResult.addError(new FieldError("userUpdateDto", "email", "é obrigatório"));
+
+    Map<String, Throwable> exceptions = new HashMap<>();
+    exceptions.put("application", new NotFoundException("User not found"));
+    exceptions.put("constraintViolation", constraintViolation());
+    exceptions.put("dateTimeParse", new DateTimeParseException("createdAtStart", "date", 0));
+    exceptions.put(
+        "httpMessageNotReadable",
+        new HttpMessageNotReadableException(
+            "Invalid body", jsonMappingException, (HttpInputMessage) null));
+    exceptions.put(
+        "httpRequestMethodNotSupported", new HttpRequestMethodNotSupportedException("PATCH"));
+    exceptions.put("illegalArgument", new IllegalArgumentException("Invalid argument"));
+    exceptions.put("jsonMapping", jsonMappingException);
+    exceptions.put(
+        "methodArgumentNotValid", new MethodArgumentNotValidException(parameter, bindingResult));
+    exceptions.put(
+        "methodArgumentTypeMismatch",
+        new MethodArgumentTypeMismatchException(
+            "abc", Integer.class, "page", parameter, new NumberFormatException()));
+    exceptions.put("missingRequestHeader", new MissingRequestHeaderException("user_id", parameter));
+    exceptions.put(
+        "missingServletRequestParameter",
+        new MissingServletRequestParameterException("page", "Integer"));
+    exceptions.put("noHandlerFound", new NoHandlerFoundException("GET", "/", new HttpHeaders()));
+    exceptions.put("responseStatus", new ResponseStatusException(HttpStatus.NOT_FOUND));
+    exceptions.put("unresolved", new IllegalStateException("Unexpected state"));
+    return exceptions;
+  }
+
+  private ConstraintViolationException constraintViolation() {
+    try {
+      BeanValidator.validate(new UserCreationDto());
+      throw new IllegalStateException("An empty user creation should not be valid");
+    } catch (ConstraintViolationException e) {
+      return e;
+    }
+  }
+
+  private void handle(String value) {}
+}
@@ -0,0 +1,63 @@
+package com.sensedia.demo.adapters.dtos;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+  private final ObjectMapper objectMapper =
+      Jackson2ObjectMapperBuilder.json()
+          .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .build();
+
+  private UserDto userDto;
+  private DefaultErrorResponse errorResponse;
+
+  @Setup
+  public void setup() {
+    userDto = new UserDto();
+    userDto.setId("620dac34-15e1-4375-8be8-e9a46d1f5a36");
+    userDto.setName("Usuário 03");
+    userDto.setEmail("usuario03@sensedia.com");
+    userDto.setStatus("ACTIVE");
+    userDto.setCreatedAt(Instant.parse("2020-03-23T16:09:01.035Z"));
+    userDto.setUpdatedAt(Instant.parse("2020-03-24T16:09:01.035Z"));
+
+    errorResponse =
+        new DefaultErrorResponse(
+            HttpStatus.BAD_REQUEST, "email é obrigatório ou está no formato inválido.");
+  }
+
+  @Benchmark
+  public byte[] userDto() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(userDto);
+  }
+
+  @Benchmark
+  public byte[] defaultErrorResponse() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(errorResponse);
+  }
+}
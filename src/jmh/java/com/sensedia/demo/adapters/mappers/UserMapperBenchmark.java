@@ -0,0 +1,73 @@
+package com.sensedia.demo.adapters.mappers;
+
+import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.UserStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+  private final UserMapper userMapper = new UserMapperImpl_();
+  private final User user = user(0);
+
+  @Benchmark
+  public UserDto toUserDto() {
+    return userMapper.toUserDto(user);
+  }
+
+  @Benchmark
+  public List<UserDto> toUserDtos(Users users) {
+    return userMapper.toUserDtos(users.users);
+  }
+
+  @State(Scope.Benchmark)
+  public static class Users {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private List<User> users;
+
+    @Setup
+    public void setup() {
+      users = new ArrayList<>();
+
+      for (int index = 0; index < size; index++) {
+        users.add(user(index));
+      }
+    }
+  }
+
+  private static User user(int index) {
+    User user = new User();
+    user.setId(UUID.randomUUID().toString());
+    user.setName("Usuário " + index);
+    user.setEmail("usuario" + index + "@sensedia.com");
+    user.setStatus(UserStatus.ACTIVE);
+    user.setCreatedAt(Instant.parse("2020-03-23T16:09:01.035Z"));
+    user.setUpdatedAt(Instant.parse("2020-03-24T16:09:01.035Z"));
+    return user;
+  }
+}
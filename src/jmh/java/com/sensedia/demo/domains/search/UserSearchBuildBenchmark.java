@@ -0,0 +1,72 @@
+package com.sensedia.demo.domains.search;
+
+import com.sensedia.demo.domains.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserSearchBuildBenchmark {
+
+  private final Instant createdAtStart = Instant.parse("2020-03-01T00:00:00Z");
+  private final Instant createdAtEnd = Instant.parse("2020-04-01T00:00:00Z");
+
+  private String cursor;
+
+  @Setup
+  public void setup() {
+    User lastUser = new User();
+    lastUser.setId("620dac34-15e1-4375-8be8-e9a46d1f5a36");
+    lastUser.setName("Usuário 03");
+    lastUser.setCreatedAt(Instant.parse("2020-03-23T16:09:01.035Z"));
+
+    cursor = UserSearchCursor.of(Sort.NAME, SortType.ASC, lastUser).encode();
+  }
+
+  @Benchmark
+  public UserSearch defaults() {
+    return UserSearchBuild.builder().sort("name").sortType("asc").page(1).build();
+  }
+
+  @Benchmark
+  public UserSearch allFilters() {
+    return UserSearchBuild.builder()
+        .status("active")
+        .name("usuario")
+        .email("sensedia.com")
+        .createdAtStart(createdAtStart)
+        .createdAtEnd(createdAtEnd)
+        .sort("created_at")
+        .sortType("desc")
+        .countMode("estimated")
+        .page(3)
+        .limit(50)
+        .build();
+  }
+
+  @Benchmark
+  public UserSearch withCursor() {
+    return UserSearchBuild.builder()
+        .sort("name")
+        .sortType("asc")
+        .cursor(cursor)
+        .page(1)
+        .limit(50)
+        .build();
+  }
+}
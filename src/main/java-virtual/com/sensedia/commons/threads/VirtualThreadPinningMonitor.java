@@ -0,0 +1,82 @@
+package com.sensedia.commons.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@Conditional(VirtualThreadsCondition.class)
+@ConditionalOnProperty(value = "app.threads.virtual", havingValue = "true")
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final String PINNED_METRIC = "threads.virtual.pinned";
+  private static final String OTHER_SOURCE = "other";
+
+  private final Map<String, String> sourcesByPackage = new LinkedHashMap<>();
+  private final Map<String, Timer> timers = new LinkedHashMap<>();
+  private final Duration threshold;
+
+  private RecordingStream recordingStream;
+
+  public VirtualThreadPinningMonitor(
+      MeterRegistry meterRegistry,
+      @Value("${app.threads.pinnedThreshold}") Duration threshold) {
+    this.threshold = threshold;
+
+    sourcesByPackage.put("com.mongodb.", "mongodb");
+    sourcesByPackage.put("com.rabbitmq.", "rabbitmq");
+    sourcesByPackage.put("org.springframework.amqp.", "rabbitmq");
+
+    sourcesByPackage.values().forEach(source -> timers.put(source, timer(meterRegistry, source)));
+    timers.put(OTHER_SOURCE, timer(meterRegistry, OTHER_SOURCE));
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, this::record);
+    recordingStream.startAsync();
+  }
+
+  @Override
+  public void destroy() {
+    if (recordingStream != null) recordingStream.close();
+  }
+
+  private void record(RecordedEvent event) {
+    timers.get(sourceOf(event.getStackTrace())).record(event.getDuration());
+  }
+
+  private String sourceOf(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) return OTHER_SOURCE;
+
+    for (RecordedFrame frame : stackTrace.getFrames()) {
+      String type = frame.getMethod().getType().getName();
+
+      for (Map.Entry<String, String> source : sourcesByPackage.entrySet()) {
+        if (type.startsWith(source.getKey())) return source.getValue();
+      }
+    }
+
+    return OTHER_SOURCE;
+  }
+
+  private Timer timer(MeterRegistry meterRegistry, String source) {
+    return Timer.builder(PINNED_METRIC).tag("source", source).register(meterRegistry);
+  }
+}
@@ -1,18 +1,30 @@
 package com.sensedia.commons.beans;
 
+import org.hibernate.validator.HibernateValidator;
+
 import javax.validation.*;
 import java.util.Set;
 
 public class BeanValidator {
 
+  private static final Validator VALIDATOR =
+      Validation.byProvider(HibernateValidator.class)
+          .configure()
+          .buildValidatorFactory()
+          .getValidator();
+
   private BeanValidator() {}
 
   public static void validate(Object obj, Class<?>... groups) {
-    ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-    Validator validator = factory.getValidator();
-    Set<ConstraintViolation<Object>> errors = validator.validate(obj, groups);
+    Set<ConstraintViolation<Object>> errors = VALIDATOR.validate(obj, groups);
     if (!errors.isEmpty()) {
       throw new ConstraintViolationException(errors.toString(), errors);
     }
   }
+
+  public static void preload(Class<?>... types) {
+    for (Class<?> type : types) {
+      VALIDATOR.getConstraintsForClass(type);
+    }
+  }
 }
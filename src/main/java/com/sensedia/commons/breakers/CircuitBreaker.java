@@ -0,0 +1,186 @@
+package com.sensedia.commons.breakers;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    HALF_OPEN,
+    OPEN
+  }
+
+  private final double failureRateThreshold;
+  private final int minimumCalls;
+  private final long openDurationNanos;
+  private final int probeCalls;
+  private final boolean[] window;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition stateChanged = lock.newCondition();
+  private final List<Consumer<State>> listeners = new CopyOnWriteArrayList<>();
+
+  private volatile State state = State.CLOSED;
+  private int calls;
+  private int failures;
+  private int position;
+  private long openedAt;
+  private int probesInFlight;
+  private int probesSucceeded;
+  private long pauses;
+  private long pausedNanos;
+  private long pausedSince;
+
+  public CircuitBreaker(
+      double failureRateThreshold,
+      int slidingWindowSize,
+      int minimumCalls,
+      long openDurationNanos,
+      int probeCalls) {
+    this.failureRateThreshold = failureRateThreshold;
+    this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+    this.openDurationNanos = openDurationNanos;
+    this.probeCalls = Math.max(1, probeCalls);
+    this.window = new boolean[slidingWindowSize];
+  }
+
+  public void onStateChange(Consumer<State> listener) {
+    listeners.add(listener);
+  }
+
+  public boolean acquire() throws InterruptedException {
+    State transition = null;
+    boolean probe;
+
+    lock.lockInterruptibly();
+    try {
+      while (true) {
+        if (state == State.CLOSED) {
+          probe = false;
+          break;
+        }
+
+        if (state == State.OPEN) {
+          long remaining = openedAt + openDurationNanos - System.nanoTime();
+
+          if (remaining > 0) {
+            stateChanged.awaitNanos(remaining);
+            continue;
+          }
+
+          transition = transition(State.HALF_OPEN);
+          probesInFlight = 0;
+          probesSucceeded = 0;
+        }
+
+        if (probesInFlight + probesSucceeded < probeCalls) {
+          probesInFlight++;
+          probe = true;
+          break;
+        }
+
+        stateChanged.await();
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    notifyListeners(transition);
+    return probe;
+  }
+
+  public void release(boolean probe, boolean failed) {
+    State transition = null;
+
+    lock.lock();
+    try {
+      if (probe) {
+        probesInFlight--;
+
+        if (state == State.HALF_OPEN) {
+          if (failed) {
+            transition = open();
+          } else if (++probesSucceeded >= probeCalls) {
+            transition = close();
+          }
+        }
+      } else if (state == State.CLOSED && record(failed)) {
+        transition = open();
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    notifyListeners(transition);
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public long getPauses() {
+    lock.lock();
+    try {
+      return pauses;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public long getPausedNanos() {
+    lock.lock();
+    try {
+      return pausedSince == 0 ? pausedNanos : pausedNanos + System.nanoTime() - pausedSince;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean record(boolean failed) {
+    if (calls == window.length) {
+      if (window[position]) failures--;
+    } else {
+      calls++;
+    }
+
+    window[position] = failed;
+    if (failed) failures++;
+    position = (position + 1) % window.length;
+
+    return calls >= minimumCalls && (double) failures / calls >= failureRateThreshold;
+  }
+
+  private State open() {
+    openedAt = System.nanoTime();
+
+    if (pausedSince == 0) {
+      pauses++;
+      pausedSince = openedAt;
+    }
+
+    return transition(State.OPEN);
+  }
+
+  private State close() {
+    calls = 0;
+    failures = 0;
+    position = 0;
+    pausedNanos += System.nanoTime() - pausedSince;
+    pausedSince = 0;
+
+    return transition(State.CLOSED);
+  }
+
+  private State transition(State newState) {
+    state = newState;
+    stateChanged.signalAll();
+    return newState;
+  }
+
+  private void notifyListeners(State transition) {
+    if (transition != null) listeners.forEach(listener -> listener.accept(transition));
+  }
+}
@@ -11,9 +11,104 @@ import java.time.format.DateTimeParseException;
 @Service
 public class InstantConverter {
 
+  private static final int DATE_LENGTH = 10;
+  private static final int MINUTES_END = 16;
+  private static final int SECONDS_END = 19;
+  private static final int MAXIMUM_FRACTION_DIGITS = 9;
+  private static final int SECONDS_PER_DAY = 86400;
+
+  private final ZoneId zoneId = ZoneId.systemDefault();
+
   public Instant toInstant(String date) {
+    if (date == null) return null;
+
+    Instant instant = parse(date);
+
+    return instant != null ? instant : tryInstant(date);
+  }
+
+  private Instant parse(String date) {
+    int length = date.length();
+
+    if (length < DATE_LENGTH || date.charAt(4) != '-' || date.charAt(7) != '-') return null;
+
+    int year = digits(date, 0, 4);
+    int month = digits(date, 5, 2);
+    int day = digits(date, 8, 2);
+
+    if (year < 0 || month < 1 || month > 12 || day < 1) return null;
+    if (day > LocalDate.of(year, month, 1).lengthOfMonth()) return null;
+
+    if (length == DATE_LENGTH) {
+      return LocalDate.of(year, month, day).atStartOfDay().atZone(zoneId).toInstant();
+    }
+
+    boolean utc = date.charAt(length - 1) == 'Z';
+    int end = utc ? length - 1 : length;
+
+    if (date.charAt(DATE_LENGTH) != 'T' || end < MINUTES_END || date.charAt(13) != ':') {
+      return null;
+    }
+
+    int hour = digits(date, 11, 2);
+    int minute = digits(date, 14, 2);
+    int second = 0;
+    int nano = 0;
+
+    if (end > MINUTES_END) {
+      if (end < SECONDS_END || date.charAt(MINUTES_END) != ':') return null;
+
+      second = digits(date, 17, 2);
+
+      if (end > SECONDS_END) {
+        int fractionDigits = end - SECONDS_END - 1;
+
+        if (date.charAt(SECONDS_END) != '.') return null;
+        if (fractionDigits < 1 || fractionDigits > MAXIMUM_FRACTION_DIGITS) return null;
+
+        nano = digits(date, SECONDS_END + 1, fractionDigits);
+
+        if (nano < 0) return null;
+
+        for (int digit = fractionDigits; digit < MAXIMUM_FRACTION_DIGITS; digit++) {
+          nano *= 10;
+        }
+      }
+    } else if (utc) {
+      return null;
+    }
+
+    if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+      return null;
+    }
+
+    if (utc) {
+      long epochDay = LocalDate.of(year, month, day).toEpochDay();
+      long secondOfDay = hour * 3600L + minute * 60L + second;
+      return Instant.ofEpochSecond(epochDay * SECONDS_PER_DAY + secondOfDay, nano);
+    }
+
+    return LocalDateTime.of(year, month, day, hour, minute, second, nano)
+        .atZone(zoneId)
+        .toInstant();
+  }
+
+  private int digits(String value, int start, int count) {
+    int result = 0;
+
+    for (int index = start; index < start + count; index++) {
+      char character = value.charAt(index);
+
+      if (character < '0' || character > '9') return -1;
+
+      result = result * 10 + (character - '0');
+    }
+
+    return result;
+  }
+
+  private Instant tryInstant(String date) {
     try {
-      if (date == null) return null;
       return Instant.parse(date);
     } catch (DateTimeParseException e) {
       return tryLocalDateTime(date);
@@ -22,7 +117,7 @@ public class InstantConverter {
 
   private Instant tryLocalDateTime(String date) {
     try {
-      return LocalDateTime.parse(date).atZone(ZoneId.systemDefault()).toInstant();
+      return LocalDateTime.parse(date).atZone(zoneId).toInstant();
     } catch (DateTimeParseException e) {
       return tryLocalDate(date);
     }
@@ -30,7 +125,7 @@ public class InstantConverter {
 
   private Instant tryLocalDate(String date) {
     try {
-      return LocalDate.parse(date).atStartOfDay().atZone(ZoneId.systemDefault()).toInstant();
+      return LocalDate.parse(date).atStartOfDay().atZone(zoneId).toInstant();
     } catch (DateTimeParseException e) {
       throw new IllegalArgumentException(
           "Invalid date format for the value [" + date + "]. Use the date in ISO 8601 format", e);
@@ -0,0 +1,43 @@
+package com.sensedia.commons.errors.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class TooManyRequestsException extends ApplicationException {
+
+  public TooManyRequestsException() {
+    this(null, null, null, null);
+  }
+
+  public TooManyRequestsException(String detail) {
+    this(detail, null, null, null);
+  }
+
+  public TooManyRequestsException(String detail, String type) {
+    this(detail, type, null, null);
+  }
+
+  public TooManyRequestsException(String detail, String type, String title) {
+    this(detail, type, title, null);
+  }
+
+  public TooManyRequestsException(Throwable cause) {
+    this(null, cause);
+  }
+
+  public TooManyRequestsException(String detail, Throwable cause) {
+    this(detail, null, cause);
+  }
+
+  public TooManyRequestsException(String detail, String type, Throwable cause) {
+    this(detail, type, null, cause);
+  }
+
+  public TooManyRequestsException(String detail, String type, String title, Throwable cause) {
+    super(HttpStatus.TOO_MANY_REQUESTS, detail, type, title, cause);
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
@@ -1,14 +1,13 @@
 package com.sensedia.commons.errors.handlers;
 
 import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import com.sensedia.commons.errors.exceptions.TooManyRequestsException;
 import com.sensedia.commons.errors.resolvers.ExceptionResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseBody;
-
-import javax.servlet.http.HttpServletResponse;
 
 @ControllerAdvice
 public class HttpResponseExceptionHandler {
@@ -21,11 +20,14 @@ public class HttpResponseExceptionHandler {
   }
 
   @ExceptionHandler({Throwable.class})
-  @ResponseBody
-  public DefaultErrorResponse handleApplicationException(HttpServletResponse res, Exception e) {
-    log.error("", e);
+  public ResponseEntity<DefaultErrorResponse> handleApplicationException(Exception e) {
+    if (e instanceof TooManyRequestsException) {
+      log.debug("Request shed by the concurrency limit: {}", e.getMessage());
+    } else {
+      log.error("", e);
+    }
+
     DefaultErrorResponse errorResponse = exceptionResolver.solve(e);
-    res.setStatus(errorResponse.getStatus());
-    return errorResponse;
+    return ResponseEntity.status(errorResponse.getStatus()).body(errorResponse);
   }
 }
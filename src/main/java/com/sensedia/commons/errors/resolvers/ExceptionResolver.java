@@ -5,13 +5,18 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.lang.reflect.ParameterizedType;
-import java.util.ArrayList;
-import java.util.List;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class ExceptionResolver {
 
-  private final List<Resolver<?>> resolvers = new ArrayList<>();
+  private final Map<Class<?>, Resolver<?>> resolvers = new LinkedHashMap<>();
+  private final Map<Class<?>, Optional<Resolver<?>>> resolversByException =
+      new ConcurrentHashMap<>();
 
   public ExceptionResolver(
       ApplicationExceptionResolver applicationExceptionResolver,
@@ -26,7 +31,8 @@ public class ExceptionResolver {
       MissingRequestHeaderExceptionResolver missingRequestHeaderExceptionResolver,
       MissingServletRequestParameterExceptionResolver
           missingServletRequestParameterExceptionResolver,
-      NoHandlerFoundExceptionResolver noHandlerFoundExceptionResolver) {
+      NoHandlerFoundExceptionResolver noHandlerFoundExceptionResolver,
+      ResponseStatusExceptionResolver responseStatusExceptionResolver) {
 
     register(applicationExceptionResolver);
     register(constraintViolationExceptionResolver);
@@ -40,34 +46,60 @@ public class ExceptionResolver {
     register(missingRequestHeaderExceptionResolver);
     register(missingServletRequestParameterExceptionResolver);
     register(noHandlerFoundExceptionResolver);
+    register(responseStatusExceptionResolver);
   }
 
   public void register(Resolver<?> resolver) {
-    resolvers.add(resolver);
+    Class<?> targetClass = getTargetClass(resolver);
+    Resolver<?> registered = resolvers.putIfAbsent(targetClass, resolver);
+
+    if (registered != null) {
+      throw new IllegalStateException(
+          String.format(
+              "The resolver [%s] is already registered for [%s], cannot register [%s]",
+              registered.getClass().getName(),
+              targetClass.getName(),
+              resolver.getClass().getName()));
+    }
+
+    resolversByException.clear();
   }
 
-  @SuppressWarnings("unchecked")
   public DefaultErrorResponse solve(Throwable e) {
+    Optional<Resolver<?>> resolver =
+        resolversByException.computeIfAbsent(e.getClass(), this::findResolver);
 
-    for (Resolver resolver : resolvers) {
-      if (isInstanceOf(resolver, e)) {
-        return resolver.getErrorResponse(e);
-      }
+    if (resolver.isPresent()) {
+      return getErrorResponse(resolver.get(), e);
     }
 
     return new DefaultErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage());
   }
 
-  private boolean isInstanceOf(Resolver resolver, Throwable e) {
-    try {
-      return Class.forName(getClassName(resolver)).isInstance(e);
-    } catch (ClassNotFoundException ex) {
-      return false;
+  @SuppressWarnings("unchecked")
+  private <T extends Throwable> DefaultErrorResponse getErrorResponse(
+      Resolver<T> resolver, Throwable e) {
+    return resolver.getErrorResponse((T) e);
+  }
+
+  private Optional<Resolver<?>> findResolver(Class<?> exceptionClass) {
+    for (Class<?> type = exceptionClass; type != null; type = type.getSuperclass()) {
+      Resolver<?> resolver = resolvers.get(type);
+      if (resolver != null) return Optional.of(resolver);
     }
+
+    return Optional.empty();
   }
 
-  private String getClassName(Resolver resolver) {
-    return ((ParameterizedType) resolver.getClass().getGenericInterfaces()[0])
-        .getActualTypeArguments()[0].getTypeName();
+  private Class<?> getTargetClass(Resolver<?> resolver) {
+    Type type =
+        ((ParameterizedType) resolver.getClass().getGenericInterfaces()[0])
+            .getActualTypeArguments()[0];
+
+    if (type instanceof ParameterizedType) {
+      return (Class<?>) ((ParameterizedType) type).getRawType();
+    }
+
+    return (Class<?>) type;
   }
 }
@@ -0,0 +1,14 @@
+package com.sensedia.commons.errors.resolvers;
+
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class ResponseStatusExceptionResolver implements Resolver<ResponseStatusException> {
+
+  @Override
+  public DefaultErrorResponse getErrorResponse(ResponseStatusException e) {
+    return new DefaultErrorResponse(e.getStatus(), e.getReason());
+  }
+}
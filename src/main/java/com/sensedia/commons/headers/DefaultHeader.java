@@ -8,6 +8,8 @@ public class DefaultHeader extends HashMap {
   public static final String APP_ID_HEADER_NAME = "appId";
   public static final String HEADER_CONTENT_RANGE = "content-range";
   public static final String HEADER_ACCEPT_RANGE = "accept-range";
+  public static final String HEADER_NEXT_CURSOR = "next-cursor";
+  public static final String HEADER_TOTAL_TYPE = "total-type";
 
   public DefaultHeader appId(String appId) {
     put(APP_ID_HEADER_NAME, appId);
@@ -28,4 +30,14 @@ public class DefaultHeader extends HashMap {
     put(HEADER_ACCEPT_RANGE, acceptRange);
     return this;
   }
+
+  public DefaultHeader totalType(String totalType) {
+    put(HEADER_TOTAL_TYPE, totalType);
+    return this;
+  }
+
+  public DefaultHeader nextCursor(String nextCursor) {
+    put(HEADER_NEXT_CURSOR, nextCursor);
+    return this;
+  }
 }
@@ -0,0 +1,80 @@
+package com.sensedia.commons.limits;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GradientLimiter {
+
+  private static final double TOLERANCE = 1.5;
+  private static final double SMOOTHING = 0.2;
+  private static final double BACKOFF_RATIO = 0.9;
+  private static final double LONG_WINDOW = 600;
+  private static final double MINIMUM_GRADIENT = 0.5;
+
+  private final int minimumLimit;
+  private final int maximumLimit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder rejections = new LongAdder();
+
+  private volatile double limit;
+  private double longRtt;
+
+  public GradientLimiter(int initialLimit, int minimumLimit, int maximumLimit) {
+    this.limit = initialLimit;
+    this.minimumLimit = minimumLimit;
+    this.maximumLimit = maximumLimit;
+  }
+
+  public boolean tryAcquire() {
+    if (inFlight.incrementAndGet() <= (int) limit) return true;
+
+    inFlight.decrementAndGet();
+    rejections.increment();
+    return false;
+  }
+
+  public void release(long rttNanos, boolean dropped) {
+    int concurrency = inFlight.getAndDecrement();
+
+    if (dropped) {
+      backOff();
+    } else {
+      onSample(rttNanos, concurrency);
+    }
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  public long getRejections() {
+    return rejections.sum();
+  }
+
+  private synchronized void backOff() {
+    limit = clamp(limit * BACKOFF_RATIO);
+  }
+
+  private synchronized void onSample(long rttNanos, int concurrency) {
+    double shortRtt = Math.max(1, rttNanos);
+
+    longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) / LONG_WINDOW;
+
+    if (longRtt / shortRtt > 2) longRtt *= 0.95;
+
+    if (concurrency < limit / 2) return;
+
+    double gradient = Math.max(MINIMUM_GRADIENT, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+    double newLimit = limit * gradient + Math.sqrt(limit);
+
+    limit = clamp(limit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+  }
+
+  private double clamp(double value) {
+    return Math.max(minimumLimit, Math.min(maximumLimit, value));
+  }
+}
@@ -0,0 +1,77 @@
+package com.sensedia.commons.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(value = "app.startup.training", havingValue = "true")
+public class StartupTrainingRun implements SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(StartupTrainingRun.class);
+
+  private final ObjectMapper mapper;
+  private final String reportFile;
+
+  public StartupTrainingRun(
+      ObjectMapper mapper, @Value("${app.startup.reportFile}") String reportFile) {
+    this.mapper = mapper;
+    this.reportFile = reportFile;
+  }
+
+  @Override
+  public void start() {
+    long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+    int loadedClasses = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+
+    log.info(
+        "Application context refreshed {} ms after JVM start with {} classes loaded, "
+            + "ending the startup training run",
+        uptime,
+        loadedClasses);
+
+    if (!reportFile.isEmpty()) write(uptime, loadedClasses);
+
+    System.exit(0);
+  }
+
+  @Override
+  public void stop() {}
+
+  @Override
+  public boolean isRunning() {
+    return false;
+  }
+
+  @Override
+  public int getPhase() {
+    return Integer.MIN_VALUE;
+  }
+
+  private void write(long uptime, int loadedClasses) {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("refreshedMillis", uptime);
+    report.put("loadedClasses", loadedClasses);
+    report.put("inputArguments", ManagementFactory.getRuntimeMXBean().getInputArguments());
+
+    try {
+      Path path = Paths.get(reportFile);
+      if (path.getParent() != null) Files.createDirectories(path.getParent());
+      mapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+    } catch (IOException e) {
+      log.error("Failed to write the startup report to [{}]", reportFile, e);
+    }
+  }
+}
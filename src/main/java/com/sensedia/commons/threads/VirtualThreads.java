@@ -0,0 +1,78 @@
+package com.sensedia.commons.threads;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Component
+public class VirtualThreads implements DisposableBean {
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreads.class);
+
+  private static final String ENABLED_METRIC = "threads.virtual.enabled";
+
+  private final ExecutorService executor;
+
+  public VirtualThreads(
+      MeterRegistry meterRegistry, @Value("${app.threads.virtual}") boolean enabled) {
+    this.executor = enabled ? createExecutor() : null;
+
+    Gauge.builder(ENABLED_METRIC, () -> executor == null ? 0 : 1).register(meterRegistry);
+  }
+
+  public static boolean isSupported() {
+    return findFactory().isPresent();
+  }
+
+  public Optional<ExecutorService> getExecutor() {
+    return Optional.ofNullable(executor);
+  }
+
+  @Override
+  public void destroy() {
+    if (executor != null) executor.shutdown();
+  }
+
+  private static ExecutorService createExecutor() {
+    Optional<MethodHandle> factory = findFactory();
+
+    if (factory.isEmpty()) {
+      log.warn(
+          "Virtual threads are not available on Java {}, falling back to platform threads",
+          Runtime.version().feature());
+      return null;
+    }
+
+    try {
+      ExecutorService executor = (ExecutorService) factory.get().invoke();
+      log.info("Running request and listener threads on virtual threads");
+      return executor;
+    } catch (Throwable e) {
+      log.warn("Unable to create virtual threads, falling back to platform threads", e);
+      return null;
+    }
+  }
+
+  private static Optional<MethodHandle> findFactory() {
+    try {
+      return Optional.of(
+          MethodHandles.publicLookup()
+              .findStatic(
+                  Executors.class,
+                  "newVirtualThreadPerTaskExecutor",
+                  MethodType.methodType(ExecutorService.class)));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.sensedia.commons.threads;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+public class VirtualThreadsCondition implements Condition {
+
+  @Override
+  public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+    return VirtualThreads.isSupported();
+  }
+}
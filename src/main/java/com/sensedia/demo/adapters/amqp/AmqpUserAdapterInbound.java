@@ -1,70 +1,266 @@
 package com.sensedia.demo.adapters.amqp;
 
+import com.rabbitmq.client.Channel;
 import com.sensedia.commons.beans.BeanValidator;
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
 import com.sensedia.commons.errors.resolvers.ExceptionResolver;
+import com.sensedia.demo.adapters.amqp.batch.UserOperationBatcher;
+import com.sensedia.demo.adapters.amqp.breaker.ListenerCircuitBreaker;
 import com.sensedia.demo.adapters.amqp.config.BindConfig;
 import com.sensedia.demo.adapters.amqp.config.BrokerInput;
+import com.sensedia.demo.adapters.amqp.dispatch.PartitionedDispatcher;
 import com.sensedia.demo.adapters.dtos.UserCreationDto;
 import com.sensedia.demo.adapters.dtos.UserDeletionDto;
 import com.sensedia.demo.adapters.dtos.UserUpdateDto;
 import com.sensedia.demo.adapters.mappers.UserMapper;
 import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.UserBatchItem;
 import com.sensedia.demo.ports.AmqpPort;
 import com.sensedia.demo.ports.ApplicationPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.stream.annotation.EnableBinding;
 import org.springframework.cloud.stream.annotation.StreamListener;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.handler.annotation.Header;
+
+import javax.validation.groups.Default;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 @EnableBinding(BrokerInput.class)
+@Lazy(false)
 public class AmqpUserAdapterInbound {
 
+  private static final Logger log = LoggerFactory.getLogger(AmqpUserAdapterInbound.class);
+
   private final ApplicationPort applicationPort;
   private final UserMapper userMapper;
   private final AmqpPort amqpPort;
   private final ExceptionResolver exceptionResolver;
+  private final UserOperationBatcher userOperationBatcher;
+  private final PartitionedDispatcher dispatcher;
+  private final ListenerCircuitBreaker listenerCircuitBreaker;
+
+  @Value("${app.amqp.batch.enabled}")
+  private boolean batchEnabled;
 
   public AmqpUserAdapterInbound(
       ApplicationPort applicationPort,
       UserMapper userMapper,
       AmqpPort amqpPort,
-      ExceptionResolver exceptionResolver) {
+      ExceptionResolver exceptionResolver,
+      UserOperationBatcher userOperationBatcher,
+      PartitionedDispatcher dispatcher,
+      ListenerCircuitBreaker listenerCircuitBreaker) {
     this.applicationPort = applicationPort;
     this.userMapper = userMapper;
     this.amqpPort = amqpPort;
     this.exceptionResolver = exceptionResolver;
+    this.userOperationBatcher = userOperationBatcher;
+    this.dispatcher = dispatcher;
+    this.listenerCircuitBreaker = listenerCircuitBreaker;
   }
 
   @StreamListener(target = BindConfig.SUBSCRIBE_USER_CREATION_REQUESTED)
-  public void subscribeExchangeUserCreationRequested(UserCreationDto userCreationDto) {
-    try {
-      User user = userMapper.toUser(userCreationDto);
-      applicationPort.create(user);
-    } catch (Exception e) {
-      amqpPort.notifyUserOperationError(
-          exceptionResolver.solve(e).addOriginalMessage(userCreationDto));
+  public void subscribeExchangeUserCreationRequested(
+      UserCreationDto userCreationDto,
+      @Header(name = AmqpHeaders.CHANNEL, required = false) Channel channel,
+      @Header(name = AmqpHeaders.DELIVERY_TAG, required = false) Long deliveryTag) {
+    boolean probe = listenerCircuitBreaker.acquire();
+
+    if (batchEnabled) {
+      processInBatch(
+          probe,
+          userCreationDto,
+          () -> userOperationBatcher.create(userMapper.toUser(userCreationDto)),
+          channel,
+          deliveryTag);
+      return;
     }
+
+    complete(
+        dispatch(
+            userCreationDto.getEmail(),
+            probe,
+            userCreationDto,
+            () -> create(userCreationDto, probe)),
+        channel,
+        deliveryTag);
   }
 
   @StreamListener(target = BindConfig.SUBSCRIBE_USER_DELETION_REQUESTED)
-  public void subscribeExchangeUserDeletionRequested(UserDeletionDto userDeletionDto) {
+  public void subscribeExchangeUserDeletionRequested(
+      UserDeletionDto userDeletionDto,
+      @Header(name = AmqpHeaders.CHANNEL, required = false) Channel channel,
+      @Header(name = AmqpHeaders.DELIVERY_TAG, required = false) Long deliveryTag) {
+    boolean probe = listenerCircuitBreaker.acquire();
+
+    if (batchEnabled) {
+      processInBatch(
+          probe,
+          userDeletionDto,
+          () -> {
+            BeanValidator.validate(userDeletionDto);
+            return userOperationBatcher.delete(userDeletionDto.getId());
+          },
+          channel,
+          deliveryTag);
+      return;
+    }
+
+    complete(
+        dispatch(
+            userDeletionDto.getId(), probe, userDeletionDto, () -> delete(userDeletionDto, probe)),
+        channel,
+        deliveryTag);
+  }
+
+  @StreamListener(target = BindConfig.SUBSCRIBE_USER_UPDATE_REQUESTED)
+  public void subscribeExchangeUserUpdateRequested(
+      UserUpdateDto userUpdateDto,
+      @Header(name = AmqpHeaders.CHANNEL, required = false) Channel channel,
+      @Header(name = AmqpHeaders.DELIVERY_TAG, required = false) Long deliveryTag) {
+    boolean probe = listenerCircuitBreaker.acquire();
+
+    if (batchEnabled) {
+      processInBatch(
+          probe,
+          userUpdateDto,
+          () -> {
+            BeanValidator.validate(userUpdateDto, Default.class, UserUpdateDto.Batch.class);
+
+            User user = userMapper.toUser(userUpdateDto);
+            user.setId(userUpdateDto.getId());
+
+            return userOperationBatcher.update(user);
+          },
+          channel,
+          deliveryTag);
+      return;
+    }
+
+    complete(
+        dispatch(userUpdateDto.getId(), probe, userUpdateDto, () -> update(userUpdateDto, probe)),
+        channel,
+        deliveryTag);
+  }
+
+  private CompletableFuture<Void> dispatch(
+      String key,
+      boolean probe,
+      Object originalMessage,
+      Supplier<CompletableFuture<Void>> operation) {
     try {
-      applicationPort.delete(userDeletionDto.getId());
+      return dispatcher.dispatch(key, operation).thenCompose(notification -> notification);
     } catch (Exception e) {
-      amqpPort.notifyUserOperationError(
-          exceptionResolver.solve(e).addOriginalMessage(userDeletionDto));
+      DefaultErrorResponse error = exceptionResolver.solve(e);
+
+      listenerCircuitBreaker.release(probe, error);
+
+      return notifyError(error, originalMessage);
     }
   }
 
-  @StreamListener(target = BindConfig.SUBSCRIBE_USER_UPDATE_REQUESTED)
-  public void subscribeExchangeUserUpdateRequested(UserUpdateDto userUpdateDto) {
+  private CompletableFuture<Void> create(UserCreationDto userCreationDto, boolean probe) {
+    return execute(
+        userCreationDto, probe, () -> applicationPort.create(userMapper.toUser(userCreationDto)));
+  }
+
+  private CompletableFuture<Void> delete(UserDeletionDto userDeletionDto, boolean probe) {
+    return execute(userDeletionDto, probe, () -> applicationPort.delete(userDeletionDto.getId()));
+  }
+
+  private CompletableFuture<Void> update(UserUpdateDto userUpdateDto, boolean probe) {
+    return execute(
+        userUpdateDto,
+        probe,
+        () -> {
+          BeanValidator.validate(userUpdateDto);
+
+          User user = userMapper.toUser(userUpdateDto);
+
+          applicationPort.update(user, userUpdateDto.getId());
+        });
+  }
+
+  private CompletableFuture<Void> execute(
+      Object originalMessage, boolean probe, Runnable operation) {
+    DefaultErrorResponse error = null;
+
     try {
-      BeanValidator.validate(userUpdateDto);
+      operation.run();
+    } catch (Exception e) {
+      error = exceptionResolver.solve(e);
+    }
 
-      User user = userMapper.toUser(userUpdateDto);
+    listenerCircuitBreaker.release(probe, error);
 
-      applicationPort.update(user, userUpdateDto.getId());
+    if (error != null) return notifyError(error, originalMessage);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  private void processInBatch(
+      boolean probe,
+      Object originalMessage,
+      Supplier<CompletableFuture<UserBatchItem>> operation,
+      Channel channel,
+      Long deliveryTag) {
+    CompletableFuture<UserBatchItem> result;
+
+    try {
+      result = operation.get();
     } catch (Exception e) {
-      amqpPort.notifyUserOperationError(
-          exceptionResolver.solve(e).addOriginalMessage(userUpdateDto));
+      result = CompletableFuture.failedFuture(e);
     }
+
+    CompletableFuture<Void> notified =
+        result
+            .handle(
+                (item, e) -> {
+                  DefaultErrorResponse error =
+                      e != null ? exceptionResolver.solve(unwrap(e)) : item.getError();
+
+                  listenerCircuitBreaker.release(probe, error);
+
+                  if (error != null) return notifyError(error, originalMessage);
+                  return CompletableFuture.<Void>completedFuture(null);
+                })
+            .thenCompose(notification -> notification);
+
+    complete(notified, channel, deliveryTag);
+  }
+
+  private void complete(CompletableFuture<Void> processed, Channel channel, Long deliveryTag) {
+    if (channel == null || deliveryTag == null) {
+      processed.join();
+      return;
+    }
+
+    processed.whenComplete((ignored, e) -> acknowledge(channel, deliveryTag, e == null));
+  }
+
+  private CompletableFuture<Void> notifyError(DefaultErrorResponse error, Object originalMessage) {
+    return amqpPort.notifyUserOperationError(error.addOriginalMessage(originalMessage));
+  }
+
+  private void acknowledge(Channel channel, long deliveryTag, boolean success) {
+    try {
+      if (success) {
+        channel.basicAck(deliveryTag, false);
+      } else {
+        channel.basicReject(deliveryTag, false);
+      }
+    } catch (IOException e) {
+      log.error("Failed to acknowledge message with delivery tag [{}]", deliveryTag, e);
+    }
+  }
+
+  private Throwable unwrap(Throwable e) {
+    return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
   }
 }
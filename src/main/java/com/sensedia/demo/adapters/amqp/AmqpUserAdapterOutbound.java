@@ -2,65 +2,130 @@ package com.sensedia.demo.adapters.amqp;
 
 import com.sensedia.commons.errors.domains.DefaultErrorResponse;
 import com.sensedia.demo.adapters.amqp.config.BrokerOutput;
+import com.sensedia.demo.adapters.amqp.publisher.AsyncPublisher;
+import com.sensedia.demo.adapters.dtos.UserDto;
 import com.sensedia.demo.adapters.mappers.UserMapper;
 import com.sensedia.demo.domains.User;
 import com.sensedia.demo.ports.AmqpPort;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.stream.annotation.EnableBinding;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
 import static com.sensedia.commons.headers.DefaultHeader.APP_ID_HEADER_NAME;
 import static com.sensedia.commons.headers.DefaultHeader.EVENT_NAME_HEADER_HEADER;
+import static com.sensedia.demo.adapters.amqp.config.BindConfig.PUBLISH_USER_CREATED;
+import static com.sensedia.demo.adapters.amqp.config.BindConfig.PUBLISH_USER_DELETED;
+import static com.sensedia.demo.adapters.amqp.config.BindConfig.PUBLISH_USER_OPERATION_ERROR;
+import static com.sensedia.demo.adapters.amqp.config.BindConfig.PUBLISH_USER_UPDATED;
 import static com.sensedia.demo.adapters.amqp.config.EventConfig.*;
 
 @Service
 @EnableBinding({BrokerOutput.class})
 public class AmqpUserAdapterOutbound implements AmqpPort {
 
+  private static final CompletableFuture<Void> SENT = CompletableFuture.completedFuture(null);
+
   private final BrokerOutput output;
   private final UserMapper userMapper;
+  private final AsyncPublisher asyncPublisher;
 
   @Value("${spring.application.name}")
   protected String appId;
 
+  @Value("${app.amqp.publisher.async}")
+  private boolean async;
+
   @Autowired
-  public AmqpUserAdapterOutbound(BrokerOutput output, UserMapper userMapper) {
+  public AmqpUserAdapterOutbound(
+      BrokerOutput output, UserMapper userMapper, AsyncPublisher asyncPublisher) {
     this.output = output;
     this.userMapper = userMapper;
+    this.asyncPublisher = asyncPublisher;
+  }
+
+  @Override
+  public CompletableFuture<Void> notifyUserCreation(User user) {
+    return sendMessage(
+        PUBLISH_USER_CREATED, output.publishUserCreated(), user, USER_CREATION_EVENT_NAME);
   }
 
   @Override
-  public void notifyUserCreation(User user) {
-    sendMessage(output.publishUserCreated(), user, USER_CREATION_EVENT_NAME);
+  public CompletableFuture<Void> notifyUserDeletion(User user) {
+    return sendMessage(
+        PUBLISH_USER_DELETED, output.publishUserDeleted(), user, USER_DELETION_EVENT_NAME);
   }
 
   @Override
-  public void notifyUserDeletion(User user) {
-    sendMessage(output.publishUserDeleted(), user, USER_DELETION_EVENT_NAME);
+  public CompletableFuture<Void> notifyUserUpdate(User user) {
+    return sendMessage(
+        PUBLISH_USER_UPDATED, output.publishUserUpdated(), user, USER_UPDATE_EVENT_NAME);
   }
 
   @Override
-  public void notifyUserUpdate(User user) {
-    sendMessage(output.publishUserUpdated(), user, USER_UPDATE_EVENT_NAME);
+  public CompletableFuture<Void> notifyUserCreations(List<User> users) {
+    return sendMessages(
+        PUBLISH_USER_CREATED, output.publishUserCreated(), users, USER_CREATION_EVENT_NAME);
   }
 
   @Override
-  public void notifyUserOperationError(DefaultErrorResponse errorResponse) {
-    sendMessage(output.publishUserOperationError(), errorResponse, USER_OPERATION_ERROR_EVENT_NAME);
+  public CompletableFuture<Void> notifyUserDeletions(List<User> users) {
+    return sendMessages(
+        PUBLISH_USER_DELETED, output.publishUserDeleted(), users, USER_DELETION_EVENT_NAME);
   }
 
-  private void sendMessage(MessageChannel channel, User user, String eventName) {
-    sendMessage(channel, userMapper.toUserDto(user), eventName);
+  @Override
+  public CompletableFuture<Void> notifyUserUpdates(List<User> users) {
+    return sendMessages(
+        PUBLISH_USER_UPDATED, output.publishUserUpdated(), users, USER_UPDATE_EVENT_NAME);
+  }
+
+  @Override
+  public CompletableFuture<Void> notifyUserOperationError(DefaultErrorResponse errorResponse) {
+    return send(
+        PUBLISH_USER_OPERATION_ERROR,
+        output.publishUserOperationError(),
+        buildMessage(errorResponse, USER_OPERATION_ERROR_EVENT_NAME));
+  }
+
+  private CompletableFuture<Void> sendMessage(
+      String binding, MessageChannel channel, User user, String eventName) {
+    return send(binding, channel, buildMessage(userMapper.toUserDto(user), eventName));
+  }
+
+  private CompletableFuture<Void> sendMessages(
+      String binding, MessageChannel channel, List<User> users, String eventName) {
+    if (users.isEmpty()) return SENT;
+
+    List<Message<UserDto>> messages =
+        userMapper.toUserDtos(users).stream()
+            .map(userDto -> buildMessage(userDto, eventName))
+            .collect(Collectors.toList());
+
+    return CompletableFuture.allOf(
+        messages.stream()
+            .map(message -> send(binding, channel, message))
+            .toArray(CompletableFuture[]::new));
+  }
+
+  private CompletableFuture<Void> send(String binding, MessageChannel channel, Message<?> message) {
+    if (async) return asyncPublisher.publish(binding, channel, message);
+
+    channel.send(message);
+    return SENT;
   }
 
-  private void sendMessage(MessageChannel channel, Object object, String eventName) {
-    channel.send(
-        MessageBuilder.withPayload(object)
-            .setHeader(EVENT_NAME_HEADER_HEADER, eventName)
-            .setHeader(APP_ID_HEADER_NAME, appId)
-            .build());
+  private <T> Message<T> buildMessage(T object, String eventName) {
+    return MessageBuilder.withPayload(object)
+        .setHeader(EVENT_NAME_HEADER_HEADER, eventName)
+        .setHeader(APP_ID_HEADER_NAME, appId)
+        .build();
   }
 }
@@ -0,0 +1,43 @@
+package com.sensedia.demo.adapters.amqp;
+
+import com.sensedia.demo.adapters.amqp.config.BindConfig;
+import com.sensedia.demo.adapters.amqp.config.CacheInvalidationInput;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.applications.UserCache;
+import com.sensedia.demo.applications.UserSearchCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.stream.annotation.EnableBinding;
+import org.springframework.cloud.stream.annotation.StreamListener;
+import org.springframework.context.annotation.Lazy;
+
+@EnableBinding(CacheInvalidationInput.class)
+@Lazy(false)
+@ConditionalOnProperty(value = "app.cache.users.distributedInvalidation", havingValue = "true")
+public class AmqpUserCacheAdapterInbound {
+
+  private final UserCache userCache;
+  private final UserSearchCache userSearchCache;
+
+  public AmqpUserCacheAdapterInbound(UserCache userCache, UserSearchCache userSearchCache) {
+    this.userCache = userCache;
+    this.userSearchCache = userSearchCache;
+  }
+
+  @StreamListener(target = BindConfig.SUBSCRIBE_USER_CREATED)
+  public void subscribeExchangeUserCreated(UserDto userDto) {
+    userCache.invalidate(userDto.getId());
+    userSearchCache.invalidateAll();
+  }
+
+  @StreamListener(target = BindConfig.SUBSCRIBE_USER_UPDATED)
+  public void subscribeExchangeUserUpdated(UserDto userDto) {
+    userCache.invalidate(userDto.getId());
+    userSearchCache.invalidateAll();
+  }
+
+  @StreamListener(target = BindConfig.SUBSCRIBE_USER_DELETED)
+  public void subscribeExchangeUserDeleted(UserDto userDto) {
+    userCache.invalidate(userDto.getId());
+    userSearchCache.invalidateAll();
+  }
+}
@@ -0,0 +1,67 @@
+package com.sensedia.demo.adapters.amqp;
+
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import com.sensedia.demo.adapters.repository.outbox.UserOutbox;
+import com.sensedia.demo.adapters.repository.outbox.UserOutboxEvent;
+import com.sensedia.demo.domains.User;
+import com.sensedia.demo.ports.AmqpPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@Primary
+@ConditionalOnProperty(value = "app.outbox.enabled", havingValue = "true")
+public class OutboxUserAdapterOutbound implements AmqpPort {
+
+  private final UserOutbox userOutbox;
+  private final AmqpUserAdapterOutbound amqpUserAdapterOutbound;
+
+  public OutboxUserAdapterOutbound(
+      UserOutbox userOutbox, AmqpUserAdapterOutbound amqpUserAdapterOutbound) {
+    this.userOutbox = userOutbox;
+    this.amqpUserAdapterOutbound = amqpUserAdapterOutbound;
+  }
+
+  @Override
+  public CompletableFuture<Void> notifyUserCreation(User user) {
+    return notifyUserCreations(Collections.singletonList(user));
+  }
+
+  @Override
+  public CompletableFuture<Void> notifyUserDeletion(User user) {
+    return notifyUserDeletions(Collections.singletonList(user));
+  }
+
+  @Override
+  public CompletableFuture<Void> notifyUserUpdate(User user) {
+    return notifyUserUpdates(Collections.singletonList(user));
+  }
+
+  @Override
+  public CompletableFuture<Void> notifyUserCreations(List<User> users) {
+    userOutbox.append(UserOutboxEvent.Type.CREATION, users);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public CompletableFuture<Void> notifyUserDeletions(List<User> users) {
+    userOutbox.append(UserOutboxEvent.Type.DELETION, users);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public CompletableFuture<Void> notifyUserUpdates(List<User> users) {
+    userOutbox.append(UserOutboxEvent.Type.UPDATE, users);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public CompletableFuture<Void> notifyUserOperationError(DefaultErrorResponse errorResponse) {
+    return amqpUserAdapterOutbound.notifyUserOperationError(errorResponse);
+  }
+}
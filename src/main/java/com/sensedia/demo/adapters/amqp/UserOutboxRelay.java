@@ -0,0 +1,122 @@
+package com.sensedia.demo.adapters.amqp;
+
+import com.sensedia.demo.adapters.repository.outbox.UserOutbox;
+import com.sensedia.demo.adapters.repository.outbox.UserOutboxEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(value = "app.outbox.enabled", havingValue = "true")
+public class UserOutboxRelay implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(UserOutboxRelay.class);
+
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("user-outbox-"));
+
+  private final UserOutbox userOutbox;
+  private final AmqpUserAdapterOutbound amqpUserAdapterOutbound;
+  private final String owner = UUID.randomUUID().toString();
+  private final int batchSize;
+  private final Duration pollInterval;
+  private final Duration leaseDuration;
+
+  public UserOutboxRelay(
+      UserOutbox userOutbox,
+      AmqpUserAdapterOutbound amqpUserAdapterOutbound,
+      @Value("${app.outbox.batchSize}") int batchSize,
+      @Value("${app.outbox.pollInterval}") Duration pollInterval,
+      @Value("${app.outbox.leaseDuration}") Duration leaseDuration) {
+    this.userOutbox = userOutbox;
+    this.amqpUserAdapterOutbound = amqpUserAdapterOutbound;
+    this.batchSize = batchSize;
+    this.pollInterval = pollInterval;
+    this.leaseDuration = leaseDuration;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    scheduler.scheduleWithFixedDelay(
+        this::drain, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  public void drain() {
+    try {
+      while (relay() == batchSize) {
+        log.debug("Outbox batch of {} events relayed, draining the next one", batchSize);
+      }
+    } catch (Exception e) {
+      log.error("Failed to relay the user outbox, retrying in {}", pollInterval, e);
+    }
+  }
+
+  private int relay() {
+    List<UserOutboxEvent> events = userOutbox.claim(owner, batchSize, leaseDuration);
+    List<CompletableFuture<Void>> publications = new ArrayList<>(events.size());
+
+    for (UserOutboxEvent event : events) {
+      publications.add(publish(event));
+    }
+
+    List<String> published = new ArrayList<>(events.size());
+    List<String> unpublished = new ArrayList<>();
+    Exception failure = null;
+
+    for (int index = 0; index < events.size(); index++) {
+      try {
+        publications.get(index).join();
+        published.add(events.get(index).getId());
+      } catch (Exception e) {
+        unpublished.add(events.get(index).getId());
+        failure = e;
+      }
+    }
+
+    if (!published.isEmpty()) userOutbox.remove(owner, published);
+    if (!unpublished.isEmpty()) userOutbox.release(owner, unpublished);
+
+    if (failure != null) {
+      throw new IllegalStateException("Some outbox events were not confirmed", failure);
+    }
+
+    return events.size();
+  }
+
+  private CompletableFuture<Void> publish(UserOutboxEvent event) {
+    try {
+      switch (event.getType()) {
+        case CREATION:
+          return amqpUserAdapterOutbound.notifyUserCreation(event.getUser());
+        case UPDATE:
+          return amqpUserAdapterOutbound.notifyUserUpdate(event.getUser());
+        case DELETION:
+          return amqpUserAdapterOutbound.notifyUserDeletion(event.getUser());
+        default:
+          throw new IllegalStateException("Unknown outbox event type [" + event.getType() + "]");
+      }
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    scheduler.shutdown();
+  }
+}
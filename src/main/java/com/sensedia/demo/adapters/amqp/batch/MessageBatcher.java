@@ -0,0 +1,102 @@
+package com.sensedia.demo.adapters.amqp.batch;
+
+import com.sensedia.demo.domains.UserBatchItem;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public class MessageBatcher<T> {
+
+  private final int maximumSize;
+  private final Duration maximumWait;
+  private final Function<T, String> keyOf;
+  private final Function<List<T>, List<UserBatchItem>> operation;
+  private final ScheduledExecutorService scheduler;
+
+  private List<T> items = new ArrayList<>();
+  private List<CompletableFuture<UserBatchItem>> results = new ArrayList<>();
+  private Set<String> keys = new HashSet<>();
+  private ScheduledFuture<?> scheduledFlush;
+
+  public MessageBatcher(
+      int maximumSize,
+      Duration maximumWait,
+      Function<T, String> keyOf,
+      Function<List<T>, List<UserBatchItem>> operation,
+      ScheduledExecutorService scheduler) {
+    this.maximumSize = maximumSize;
+    this.maximumWait = maximumWait;
+    this.keyOf = keyOf;
+    this.operation = operation;
+    this.scheduler = scheduler;
+  }
+
+  public CompletableFuture<UserBatchItem> submit(T item) {
+    CompletableFuture<UserBatchItem> result = new CompletableFuture<>();
+    String key = keyOf.apply(item);
+    boolean full;
+
+    while (true) {
+      synchronized (this) {
+        if (key == null || keys.add(key)) {
+          items.add(item);
+          results.add(result);
+
+          full = items.size() >= maximumSize;
+
+          if (!full && scheduledFlush == null) {
+            scheduledFlush =
+                scheduler.schedule(this::flush, maximumWait.toMillis(), TimeUnit.MILLISECONDS);
+          }
+          break;
+        }
+      }
+
+      flush();
+    }
+
+    if (full) {
+      flush();
+    }
+
+    return result;
+  }
+
+  public void flush() {
+    List<T> batch;
+    List<CompletableFuture<UserBatchItem>> batchResults;
+
+    synchronized (this) {
+      if (items.isEmpty()) {
+        return;
+      }
+
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel(false);
+        scheduledFlush = null;
+      }
+
+      batch = items;
+      batchResults = results;
+      items = new ArrayList<>();
+      results = new ArrayList<>();
+      keys = new HashSet<>();
+    }
+
+    try {
+      for (UserBatchItem item : operation.apply(batch)) {
+        batchResults.get(item.getIndex()).complete(item);
+      }
+    } catch (Exception e) {
+      batchResults.forEach(result -> result.completeExceptionally(e));
+    }
+  }
+}
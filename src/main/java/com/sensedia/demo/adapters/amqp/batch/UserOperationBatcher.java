@@ -0,0 +1,60 @@
+package com.sensedia.demo.adapters.amqp.batch;
+
+import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.UserBatchItem;
+import com.sensedia.demo.ports.ApplicationPort;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Component
+public class UserOperationBatcher implements DisposableBean {
+
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("user-batch-"));
+
+  private final MessageBatcher<User> creations;
+  private final MessageBatcher<User> updates;
+  private final MessageBatcher<String> deletions;
+
+  public UserOperationBatcher(
+      ApplicationPort applicationPort,
+      @Value("${app.amqp.batch.maximumSize}") int maximumSize,
+      @Value("${app.amqp.batch.maximumWait}") Duration maximumWait) {
+    this.creations =
+        new MessageBatcher<>(
+            maximumSize, maximumWait, user -> null, applicationPort::createBatch, scheduler);
+    this.updates =
+        new MessageBatcher<>(
+            maximumSize, maximumWait, User::getId, applicationPort::updateBatch, scheduler);
+    this.deletions =
+        new MessageBatcher<>(
+            maximumSize, maximumWait, id -> id, applicationPort::deleteBatch, scheduler);
+  }
+
+  public CompletableFuture<UserBatchItem> create(User user) {
+    return creations.submit(user);
+  }
+
+  public CompletableFuture<UserBatchItem> update(User user) {
+    return updates.submit(user);
+  }
+
+  public CompletableFuture<UserBatchItem> delete(String id) {
+    return deletions.submit(id);
+  }
+
+  @Override
+  public void destroy() {
+    creations.flush();
+    updates.flush();
+    deletions.flush();
+    scheduler.shutdown();
+  }
+}
@@ -0,0 +1,221 @@
+package com.sensedia.demo.adapters.amqp.breaker;
+
+import com.sensedia.commons.breakers.CircuitBreaker;
+import com.sensedia.commons.breakers.CircuitBreaker.State;
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ListenerCircuitBreaker implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(ListenerCircuitBreaker.class);
+
+  private static final String STATE_METRIC = "user.amqp.breaker.state";
+  private static final String TRANSITIONS_METRIC = "user.amqp.breaker.transitions";
+  private static final String PAUSED_METRIC = "user.amqp.breaker.paused";
+  private static final String STATE_TAG = "state";
+
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("user-breaker-"));
+
+  private final List<SimpleMessageListenerContainer> containers = new CopyOnWriteArrayList<>();
+  private final Set<SimpleMessageListenerContainer> stoppedContainers = new LinkedHashSet<>();
+  private final Map<SimpleMessageListenerContainer, Integer> pausedConsumers =
+      new LinkedHashMap<>();
+  private final Map<State, Counter> transitions = new EnumMap<>(State.class);
+  private final CircuitBreaker breaker;
+  private final boolean enabled;
+  private final Duration openDuration;
+  private final Duration rampInterval;
+
+  private ScheduledFuture<?> resume;
+  private ScheduledFuture<?> ramp;
+  private int rampStep;
+
+  public ListenerCircuitBreaker(
+      MeterRegistry meterRegistry,
+      @Value("${app.amqp.breaker.enabled}") boolean enabled,
+      @Value("${app.amqp.breaker.failureRateThreshold}") double failureRateThreshold,
+      @Value("${app.amqp.breaker.slidingWindowSize}") int slidingWindowSize,
+      @Value("${app.amqp.breaker.minimumCalls}") int minimumCalls,
+      @Value("${app.amqp.breaker.openDuration}") Duration openDuration,
+      @Value("${app.amqp.breaker.probeCalls}") int probeCalls,
+      @Value("${app.amqp.breaker.rampInterval}") Duration rampInterval) {
+    this.enabled = enabled;
+    this.openDuration = openDuration;
+    this.rampInterval = rampInterval;
+    this.breaker =
+        new CircuitBreaker(
+            failureRateThreshold,
+            slidingWindowSize,
+            minimumCalls,
+            openDuration.toNanos(),
+            probeCalls);
+
+    for (State state : State.values()) {
+      String tag = state.name().toLowerCase(Locale.ROOT);
+
+      Gauge.builder(STATE_METRIC, breaker, current -> current.getState() == state ? 1 : 0)
+          .tag(STATE_TAG, tag)
+          .register(meterRegistry);
+
+      transitions.put(
+          state,
+          Counter.builder(TRANSITIONS_METRIC).tag(STATE_TAG, tag).register(meterRegistry));
+    }
+
+    FunctionTimer.builder(
+            PAUSED_METRIC,
+            breaker,
+            CircuitBreaker::getPauses,
+            CircuitBreaker::getPausedNanos,
+            TimeUnit.NANOSECONDS)
+        .register(meterRegistry);
+
+    breaker.onStateChange(this::onStateChange);
+  }
+
+  public void register(AbstractMessageListenerContainer container, String group) {
+    if (group != null && container instanceof SimpleMessageListenerContainer) {
+      containers.add((SimpleMessageListenerContainer) container);
+    }
+  }
+
+  public boolean acquire() {
+    if (!enabled) return false;
+
+    try {
+      return breaker.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while the user listeners were paused", e);
+    }
+  }
+
+  public void release(boolean probe, DefaultErrorResponse error) {
+    if (enabled) breaker.release(probe, error != null && isServerError(error));
+  }
+
+  public State getState() {
+    return breaker.getState();
+  }
+
+  @Override
+  public void destroy() {
+    scheduler.shutdownNow();
+  }
+
+  private boolean isServerError(DefaultErrorResponse error) {
+    return HttpStatus.Series.resolve(error.getStatus()) == HttpStatus.Series.SERVER_ERROR;
+  }
+
+  private void onStateChange(State state) {
+    transitions.get(state).increment();
+
+    if (state == State.OPEN) {
+      log.warn("User operations are failing, stopping the user listeners");
+    } else if (state == State.CLOSED) {
+      log.info("User operations recovered, resuming the user listeners");
+    }
+
+    scheduler.execute(this::adjustConsumers);
+  }
+
+  private void adjustConsumers() {
+    if (breaker.getState() == State.OPEN) {
+      stopConsumers();
+      return;
+    }
+
+    resumeConsumers();
+
+    if (breaker.getState() == State.CLOSED && ramp == null && !pausedConsumers.isEmpty()) {
+      ramp =
+          scheduler.scheduleWithFixedDelay(
+              this::rampUp, 0, rampInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void stopConsumers() {
+    stopRamp();
+
+    for (SimpleMessageListenerContainer container : containers) {
+      int consumers = container.getActiveConsumerCount();
+
+      if (consumers == 0) continue;
+      if (consumers > 1) pausedConsumers.putIfAbsent(container, consumers);
+
+      stoppedContainers.add(container);
+      container.stop();
+    }
+
+    if (resume != null) resume.cancel(false);
+
+    resume =
+        scheduler.schedule(this::resumeConsumers, openDuration.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private void resumeConsumers() {
+    if (resume != null) resume.cancel(false);
+
+    resume = null;
+
+    for (SimpleMessageListenerContainer container : stoppedContainers) {
+      if (pausedConsumers.containsKey(container)) container.setConcurrentConsumers(1);
+
+      container.start();
+    }
+
+    stoppedContainers.clear();
+  }
+
+  private void rampUp() {
+    if (breaker.getState() != State.CLOSED) return;
+
+    int consumers = 1 + ++rampStep;
+    boolean resumed = true;
+
+    for (Map.Entry<SimpleMessageListenerContainer, Integer> entry : pausedConsumers.entrySet()) {
+      entry.getKey().setConcurrentConsumers(Math.min(entry.getValue(), consumers));
+      resumed &= consumers >= entry.getValue();
+    }
+
+    if (resumed) {
+      pausedConsumers.clear();
+      stopRamp();
+    }
+  }
+
+  private void stopRamp() {
+    if (ramp != null) ramp.cancel(false);
+
+    ramp = null;
+    rampStep = 0;
+  }
+}
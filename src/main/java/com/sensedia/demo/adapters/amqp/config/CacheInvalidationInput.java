@@ -0,0 +1,16 @@
+package com.sensedia.demo.adapters.amqp.config;
+
+import org.springframework.cloud.stream.annotation.Input;
+import org.springframework.messaging.SubscribableChannel;
+
+public interface CacheInvalidationInput {
+
+  @Input(BindConfig.SUBSCRIBE_USER_CREATED)
+  SubscribableChannel subscribeUserCreated();
+
+  @Input(BindConfig.SUBSCRIBE_USER_UPDATED)
+  SubscribableChannel subscribeUserUpdated();
+
+  @Input(BindConfig.SUBSCRIBE_USER_DELETED)
+  SubscribableChannel subscribeUserDeleted();
+}
@@ -0,0 +1,100 @@
+package com.sensedia.demo.adapters.amqp.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ListenerAcknowledgeEnvironmentPostProcessor
+    implements EnvironmentPostProcessor, Ordered {
+
+  public static final String BATCH_PROPERTY = "app.amqp.batch.enabled";
+  public static final String BATCH_SIZE_PROPERTY = "app.amqp.batch.maximumSize";
+  public static final String DISPATCHER_PROPERTY = "app.amqp.dispatcher.enabled";
+  public static final String DISPATCHER_LANES_PROPERTY = "app.amqp.dispatcher.lanes";
+  public static final String ACKNOWLEDGE_MODE_OVERRIDE = "rabbitmq_acknowledgeMode";
+  public static final String PREFETCH_OVERRIDE = "rabbitmq_prefetch";
+  public static final String MANUAL_ACKNOWLEDGE_MODE = "MANUAL";
+
+  private static final String PROPERTY_SOURCE_NAME = "userListenerAcknowledge";
+  private static final String AUTO_ACKNOWLEDGE_MODE = "AUTO";
+  private static final int DISPATCHER_PREFETCH_PER_LANE = 4;
+
+  private static final List<String> BINDINGS =
+      List.of(
+          BindConfig.SUBSCRIBE_USER_CREATION_REQUESTED,
+          BindConfig.SUBSCRIBE_USER_UPDATE_REQUESTED,
+          BindConfig.SUBSCRIBE_USER_DELETION_REQUESTED);
+
+  public static String acknowledgeModeProperty(String binding) {
+    return "spring.cloud.stream.rabbit.bindings." + binding + ".consumer.acknowledgeMode";
+  }
+
+  public static String prefetchProperty(String binding) {
+    return "spring.cloud.stream.rabbit.bindings." + binding + ".consumer.prefetch";
+  }
+
+  @Override
+  public void postProcessEnvironment(
+      ConfigurableEnvironment environment, SpringApplication application) {
+    boolean batch = environment.getProperty(BATCH_PROPERTY, Boolean.class, false);
+    boolean dispatcher = environment.getProperty(DISPATCHER_PROPERTY, Boolean.class, false);
+    boolean asyncCompletion = batch || dispatcher;
+
+    String acknowledgeMode =
+        environment.getProperty(
+            ACKNOWLEDGE_MODE_OVERRIDE,
+            asyncCompletion ? MANUAL_ACKNOWLEDGE_MODE : AUTO_ACKNOWLEDGE_MODE);
+    int prefetch =
+        environment.getProperty(
+            PREFETCH_OVERRIDE, Integer.class, prefetchOf(environment, batch, dispatcher));
+
+    Map<String, Object> properties = new HashMap<>();
+
+    for (String binding : BINDINGS) {
+      properties.put(acknowledgeModeProperty(binding), acknowledgeMode);
+      properties.put(prefetchProperty(binding), prefetch);
+    }
+
+    environment
+        .getPropertySources()
+        .addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, properties));
+
+    if (!asyncCompletion) return;
+
+    for (String binding : BINDINGS) {
+      String bindingAcknowledgeMode = environment.getProperty(acknowledgeModeProperty(binding));
+
+      if (!MANUAL_ACKNOWLEDGE_MODE.equalsIgnoreCase(bindingAcknowledgeMode)) {
+        throw new IllegalStateException(
+            "The batched consumer and the dispatcher complete messages asynchronously and "
+                + "require the MANUAL acknowledge mode, but ["
+                + binding
+                + "] uses ["
+                + bindingAcknowledgeMode
+                + "]");
+      }
+    }
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+
+  private int prefetchOf(ConfigurableEnvironment environment, boolean batch, boolean dispatcher) {
+    if (batch) return environment.getRequiredProperty(BATCH_SIZE_PROPERTY, Integer.class);
+
+    if (dispatcher) {
+      return environment.getRequiredProperty(DISPATCHER_LANES_PROPERTY, Integer.class)
+          * DISPATCHER_PREFETCH_PER_LANE;
+    }
+
+    return 1;
+  }
+}
@@ -0,0 +1,26 @@
+package com.sensedia.demo.adapters.amqp.config;
+
+import com.sensedia.commons.threads.VirtualThreads;
+import com.sensedia.demo.adapters.amqp.breaker.ListenerCircuitBreaker;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.cloud.stream.config.ListenerContainerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+@Configuration
+public class ListenerContainerConfig {
+
+  @Bean
+  public ListenerContainerCustomizer<AbstractMessageListenerContainer>
+      listenerContainerCustomizer(
+          VirtualThreads virtualThreads, ListenerCircuitBreaker listenerCircuitBreaker) {
+    return (container, destination, group) -> {
+      virtualThreads
+          .getExecutor()
+          .ifPresent(executor -> container.setTaskExecutor(new TaskExecutorAdapter(executor)));
+
+      listenerCircuitBreaker.register(container, group);
+    };
+  }
+}
@@ -0,0 +1,40 @@
+package com.sensedia.demo.adapters.amqp.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+public class PublisherConfirmsEnvironmentPostProcessor
+    implements EnvironmentPostProcessor, Ordered {
+
+  public static final String CONFIRMS_PROPERTY = "app.amqp.publisher.confirms";
+  public static final String CONFIRM_TYPE_PROPERTY =
+      "spring.cloud.stream.binders.rabbitmq.environment.spring.rabbitmq.publisher-confirm-type";
+  public static final String CORRELATED_CONFIRM_TYPE = "correlated";
+
+  private static final String PROPERTY_SOURCE_NAME = "userPublisherConfirms";
+  private static final String NO_CONFIRM_TYPE = "none";
+
+  @Override
+  public void postProcessEnvironment(
+      ConfigurableEnvironment environment, SpringApplication application) {
+    boolean confirms = environment.getProperty(CONFIRMS_PROPERTY, Boolean.class, false);
+
+    environment
+        .getPropertySources()
+        .addLast(
+            new MapPropertySource(
+                PROPERTY_SOURCE_NAME,
+                Map.of(
+                    CONFIRM_TYPE_PROPERTY, confirms ? CORRELATED_CONFIRM_TYPE : NO_CONFIRM_TYPE)));
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+}
@@ -0,0 +1,99 @@
+package com.sensedia.demo.adapters.amqp.dispatch;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class PartitionedDispatcher implements DisposableBean {
+
+  private static final String LANE_DEPTH_METRIC = "user.dispatcher.lane.depth";
+  private static final String LANE_LAG_METRIC = "user.dispatcher.lane.lag";
+
+  private final List<Lane> lanes = new ArrayList<>();
+  private final boolean enabled;
+
+  public PartitionedDispatcher(
+      MeterRegistry meterRegistry,
+      @Value("${app.amqp.dispatcher.enabled}") boolean enabled,
+      @Value("${app.amqp.dispatcher.lanes}") int laneCount) {
+    this.enabled = enabled;
+
+    if (!enabled) return;
+
+    for (int index = 0; index < laneCount; index++) {
+      lanes.add(new Lane(index, meterRegistry));
+    }
+  }
+
+  public <T> CompletableFuture<T> dispatch(String key, Supplier<T> task) {
+    if (!enabled) {
+      return CompletableFuture.supplyAsync(task, Runnable::run);
+    }
+
+    return lanes.get(laneOf(key)).submit(task);
+  }
+
+  int laneOf(String key) {
+    return key == null ? 0 : Math.floorMod(key.hashCode(), lanes.size());
+  }
+
+  @Override
+  public void destroy() throws InterruptedException {
+    for (Lane lane : lanes) {
+      lane.executor.shutdown();
+    }
+
+    for (Lane lane : lanes) {
+      lane.executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+  }
+
+  private static class Lane {
+
+    private final ThreadPoolExecutor executor;
+    private final Timer lag;
+
+    private Lane(int index, MeterRegistry meterRegistry) {
+      this.executor =
+          new ThreadPoolExecutor(
+              1,
+              1,
+              0L,
+              TimeUnit.MILLISECONDS,
+              new LinkedBlockingQueue<>(),
+              new CustomizableThreadFactory("user-lane-" + index + "-"));
+
+      String lane = String.valueOf(index);
+
+      this.lag = Timer.builder(LANE_LAG_METRIC).tag("lane", lane).register(meterRegistry);
+
+      Gauge.builder(LANE_DEPTH_METRIC, executor, e -> e.getQueue().size())
+          .tag("lane", lane)
+          .register(meterRegistry);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+      long enqueuedAt = System.nanoTime();
+
+      return CompletableFuture.supplyAsync(
+          () -> {
+            lag.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            return task.get();
+          },
+          executor);
+    }
+  }
+}
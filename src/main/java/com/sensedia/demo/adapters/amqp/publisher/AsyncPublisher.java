@@ -0,0 +1,280 @@
+package com.sensedia.demo.adapters.amqp.publisher;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.integration.amqp.support.NackedAmqpMessageException;
+import org.springframework.integration.annotation.ServiceActivator;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import static com.sensedia.demo.adapters.amqp.config.PublisherConfirmsEnvironmentPostProcessor.CONFIRM_TYPE_PROPERTY;
+import static com.sensedia.demo.adapters.amqp.config.PublisherConfirmsEnvironmentPostProcessor.CORRELATED_CONFIRM_TYPE;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class AsyncPublisher implements DisposableBean {
+
+  public static final String PUBLISH_CONFIRMS_CHANNEL = "userPublishConfirms";
+  public static final String PUBLISH_ID_HEADER = "publish_id";
+
+  private static final Logger log = LoggerFactory.getLogger(AsyncPublisher.class);
+
+  private static final String LATENCY_METRIC = "user.publisher.latency";
+  private static final String QUEUE_DEPTH_METRIC = "user.publisher.queue.depth";
+  private static final String OUTSTANDING_METRIC = "user.publisher.outstanding";
+  private static final String NACKS_METRIC = "user.publisher.nacks";
+  private static final String TIMEOUTS_METRIC = "user.publisher.timeouts";
+  private static final String REJECTIONS_METRIC = "user.publisher.rejections";
+  private static final String CHANNEL_TAG = "channel";
+
+  private final Map<String, PublishLane> lanes = new ConcurrentHashMap<>();
+  private final Map<String, PendingMessage> pendingConfirms = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService confirmTimeouts =
+      Executors.newSingleThreadScheduledExecutor(
+          new CustomizableThreadFactory("user-publisher-confirms-"));
+  private final MeterRegistry meterRegistry;
+  private final int queueCapacity;
+  private final int maximumOutstanding;
+  private final boolean confirms;
+  private final Duration enqueueTimeout;
+  private final Duration confirmTimeout;
+
+  private volatile boolean running = true;
+
+  public AsyncPublisher(
+      MeterRegistry meterRegistry,
+      @Value("${app.amqp.publisher.queueCapacity}") int queueCapacity,
+      @Value("${app.amqp.publisher.maximumOutstanding}") int maximumOutstanding,
+      @Value("${app.amqp.publisher.confirms}") boolean confirms,
+      @Value("${app.amqp.publisher.enqueueTimeout}") Duration enqueueTimeout,
+      @Value("${app.amqp.publisher.confirmTimeout}") Duration confirmTimeout,
+      Environment environment) {
+    this.meterRegistry = meterRegistry;
+    this.queueCapacity = queueCapacity;
+    this.maximumOutstanding = maximumOutstanding;
+    this.confirms = confirms;
+    this.enqueueTimeout = enqueueTimeout;
+    this.confirmTimeout = confirmTimeout;
+
+    String confirmType = environment.getProperty(CONFIRM_TYPE_PROPERTY);
+
+    if (confirms && !CORRELATED_CONFIRM_TYPE.equalsIgnoreCase(confirmType)) {
+      throw new IllegalStateException(
+          "Publisher confirms are enabled but ["
+              + CONFIRM_TYPE_PROPERTY
+              + "] is ["
+              + confirmType
+              + "], expected ["
+              + CORRELATED_CONFIRM_TYPE
+              + "]");
+    }
+  }
+
+  public CompletableFuture<Void> publish(
+      String binding, MessageChannel channel, Message<?> message) {
+    if (!running) {
+      return CompletableFuture.failedFuture(
+          new RejectedExecutionException("The publisher is shutting down"));
+    }
+
+    PublishLane lane = lanes.computeIfAbsent(binding, name -> new PublishLane(name, channel));
+    PendingMessage pending = new PendingMessage(lane, message);
+
+    try {
+      if (!lane.queue.offer(pending, enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        lane.rejections.increment();
+        pending.complete(
+            new RejectedExecutionException(
+                "The publisher queue for [" + binding + "] is full"));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      pending.complete(e);
+    }
+
+    return pending.future;
+  }
+
+  @ServiceActivator(inputChannel = PUBLISH_CONFIRMS_CHANNEL)
+  public void onConfirm(Message<?> confirm) {
+    PendingMessage pending = pendingConfirms.get(publishId(confirm));
+    if (pending != null) pending.complete(null);
+  }
+
+  @ServiceActivator(inputChannel = "errorChannel")
+  public void onError(ErrorMessage errorMessage) {
+    if (!(errorMessage.getPayload() instanceof NackedAmqpMessageException)) return;
+
+    NackedAmqpMessageException nack = (NackedAmqpMessageException) errorMessage.getPayload();
+    PendingMessage pending = pendingConfirms.get(publishId(nack.getFailedMessage()));
+
+    if (pending != null) {
+      pending.lane.nacks.increment();
+      pending.complete(nack);
+    }
+  }
+
+  private String publishId(Message<?> message) {
+    return message == null ? null : message.getHeaders().get(PUBLISH_ID_HEADER, String.class);
+  }
+
+  @Override
+  public void destroy() throws InterruptedException {
+    running = false;
+
+    for (PublishLane lane : lanes.values()) {
+      lane.executor.shutdown();
+    }
+
+    for (PublishLane lane : lanes.values()) {
+      lane.executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    confirmTimeouts.shutdownNow();
+    pendingConfirms
+        .values()
+        .forEach(
+            pending ->
+                pending.complete(
+                    new RejectedExecutionException("The publisher shut down before the confirm")));
+  }
+
+  private class PublishLane implements Runnable {
+
+    private final String name;
+    private final MessageChannel channel;
+    private final BlockingQueue<PendingMessage> queue = new ArrayBlockingQueue<>(queueCapacity);
+    private final Semaphore outstanding = new Semaphore(maximumOutstanding);
+    private final ExecutorService executor;
+    private final Timer latency;
+    private final Counter nacks;
+    private final Counter timeouts;
+    private final Counter rejections;
+
+    private PublishLane(String name, MessageChannel channel) {
+      this.name = name;
+      this.channel = channel;
+      this.latency = Timer.builder(LATENCY_METRIC).tag(CHANNEL_TAG, name).register(meterRegistry);
+      this.nacks = Counter.builder(NACKS_METRIC).tag(CHANNEL_TAG, name).register(meterRegistry);
+      this.timeouts =
+          Counter.builder(TIMEOUTS_METRIC).tag(CHANNEL_TAG, name).register(meterRegistry);
+      this.rejections =
+          Counter.builder(REJECTIONS_METRIC).tag(CHANNEL_TAG, name).register(meterRegistry);
+
+      Gauge.builder(QUEUE_DEPTH_METRIC, queue, BlockingQueue::size)
+          .tag(CHANNEL_TAG, name)
+          .register(meterRegistry);
+      Gauge.builder(
+              OUTSTANDING_METRIC, outstanding, s -> maximumOutstanding - s.availablePermits())
+          .tag(CHANNEL_TAG, name)
+          .register(meterRegistry);
+
+      this.executor =
+          Executors.newSingleThreadExecutor(
+              new CustomizableThreadFactory("user-publisher-" + name + "-"));
+      this.executor.execute(this);
+    }
+
+    @Override
+    public void run() {
+      while (running || !queue.isEmpty()) {
+        try {
+          PendingMessage pending = queue.poll(100, TimeUnit.MILLISECONDS);
+          if (pending != null) send(pending);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+
+    private void send(PendingMessage pending) throws InterruptedException {
+      outstanding.acquire();
+      pending.acquired = true;
+
+      if (confirms) {
+        pendingConfirms.put(pending.id, pending);
+        pending.timeout =
+            confirmTimeouts.schedule(
+                () -> expire(pending), confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+      }
+
+      try {
+        channel.send(pending.message);
+        if (!confirms) pending.complete(null);
+      } catch (Exception e) {
+        log.error("Failed to publish message on [{}]", name, e);
+        pending.complete(e);
+      }
+    }
+
+    private void expire(PendingMessage pending) {
+      if (pending.completed.get()) return;
+
+      log.warn("No publisher confirm received on [{}] after {}", name, confirmTimeout);
+      timeouts.increment();
+      pending.complete(
+          new TimeoutException("No publisher confirm received after " + confirmTimeout));
+    }
+  }
+
+  private class PendingMessage {
+
+    private final String id = UUID.randomUUID().toString();
+    private final long enqueuedAt = System.nanoTime();
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private final PublishLane lane;
+    private final Message<?> message;
+
+    private volatile boolean acquired;
+    private volatile ScheduledFuture<?> timeout;
+
+    private PendingMessage(PublishLane lane, Message<?> message) {
+      this.lane = lane;
+      this.message = MessageBuilder.fromMessage(message).setHeader(PUBLISH_ID_HEADER, id).build();
+    }
+
+    private void complete(Exception error) {
+      if (!completed.compareAndSet(false, true)) return;
+
+      pendingConfirms.remove(id);
+      if (timeout != null) timeout.cancel(false);
+      if (acquired) lane.outstanding.release();
+      lane.latency.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+
+      if (error == null) {
+        future.complete(null);
+      } else {
+        future.completeExceptionally(error);
+      }
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.sensedia.demo.adapters.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class BatchItemDto {
+
+  private int index;
+
+  private int status;
+
+  private UserDto user;
+
+  private DefaultErrorResponse<?> error;
+
+  public int getIndex() {
+    return index;
+  }
+
+  public void setIndex(int index) {
+    this.index = index;
+  }
+
+  public int getStatus() {
+    return status;
+  }
+
+  public void setStatus(int status) {
+    this.status = status;
+  }
+
+  public UserDto getUser() {
+    return user;
+  }
+
+  public void setUser(UserDto user) {
+    this.user = user;
+  }
+
+  public DefaultErrorResponse<?> getError() {
+    return error;
+  }
+
+  public void setError(DefaultErrorResponse<?> error) {
+    this.error = error;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("index", index)
+        .append("status", status)
+        .append("user", user)
+        .append("error", error)
+        .toString();
+  }
+}
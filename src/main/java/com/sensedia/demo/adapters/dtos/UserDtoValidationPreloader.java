@@ -0,0 +1,16 @@
+package com.sensedia.demo.adapters.dtos;
+
+import com.sensedia.commons.beans.BeanValidator;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+@Component
+@Lazy(false)
+public class UserDtoValidationPreloader implements SmartInitializingSingleton {
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    BeanValidator.preload(UserCreationDto.class, UserUpdateDto.class, UserDeletionDto.class);
+  }
+}
@@ -15,6 +15,9 @@ import java.util.Objects;
 @JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
 public class UserUpdateDto {
 
+  public interface Batch {}
+
+  @NotNull(groups = Batch.class)
   private String id;
 
   @NotNull private String name;
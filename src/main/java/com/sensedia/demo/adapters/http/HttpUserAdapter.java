@@ -1,44 +1,79 @@
 package com.sensedia.demo.adapters.http;
 
+import com.sensedia.commons.beans.BeanValidator;
 import com.sensedia.commons.converters.InstantConverter;
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import com.sensedia.commons.errors.resolvers.ExceptionResolver;
+import com.sensedia.demo.adapters.dtos.BatchItemDto;
 import com.sensedia.demo.adapters.dtos.UserCreationDto;
+import com.sensedia.demo.adapters.dtos.UserDeletionDto;
 import com.sensedia.demo.adapters.dtos.UserDto;
 import com.sensedia.demo.adapters.dtos.UserUpdateDto;
+import com.sensedia.demo.adapters.http.export.ExportFormat;
+import com.sensedia.demo.adapters.http.export.UserExporter;
+import com.sensedia.demo.adapters.http.limits.ConcurrencyLimited;
+import com.sensedia.demo.adapters.http.limits.RequestClass;
 import com.sensedia.demo.adapters.mappers.UserMapper;
 import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.UserBatchItem;
+import com.sensedia.demo.domains.search.TotalType;
 import com.sensedia.demo.domains.search.UserSearch;
 import com.sensedia.demo.domains.search.UserSearchBuild;
 import com.sensedia.demo.domains.search.UserSearchResponse;
 import com.sensedia.demo.ports.ApplicationPort;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import javax.validation.groups.Default;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 
 import static com.sensedia.commons.headers.DefaultHeader.HEADER_ACCEPT_RANGE;
 import static com.sensedia.commons.headers.DefaultHeader.HEADER_CONTENT_RANGE;
+import static com.sensedia.commons.headers.DefaultHeader.HEADER_NEXT_CURSOR;
+import static com.sensedia.commons.headers.DefaultHeader.HEADER_TOTAL_TYPE;
 import static java.lang.String.valueOf;
 
 @RestController
+@Lazy(false)
 @RequestMapping("/users")
+@Profile("!reactive")
 public class HttpUserAdapter {
 
   private final ApplicationPort userApplication;
   private final UserMapper userMapper;
   private final InstantConverter instantConverter;
+  private final ExceptionResolver exceptionResolver;
+  private final UserExporter userExporter;
 
   @Autowired
   public HttpUserAdapter(
-      ApplicationPort userApplication, UserMapper userMapper, InstantConverter instantConverter) {
+      ApplicationPort userApplication,
+      UserMapper userMapper,
+      InstantConverter instantConverter,
+      ExceptionResolver exceptionResolver,
+      UserExporter userExporter) {
     this.userApplication = userApplication;
     this.userMapper = userMapper;
     this.instantConverter = instantConverter;
+    this.exceptionResolver = exceptionResolver;
+    this.userExporter = userExporter;
   }
 
   @PostMapping
+  @ConcurrencyLimited(RequestClass.WRITE)
   public ResponseEntity<UserDto> create(@RequestBody UserCreationDto userCreation) {
     User user = userApplication.create(userMapper.toUser(userCreation));
 
@@ -47,13 +82,59 @@ public class HttpUserAdapter {
     return ResponseEntity.status(HttpStatus.CREATED).body(userDto);
   }
 
+  @PostMapping("/batch")
+  @ConcurrencyLimited(RequestClass.WRITE)
+  public ResponseEntity<List<BatchItemDto>> createBatch(
+      @RequestBody List<UserCreationDto> userCreations) {
+    return executeBatch(
+        userCreations,
+        userCreation -> {
+          BeanValidator.validate(userCreation);
+          return userMapper.toUser(userCreation);
+        },
+        userApplication::createBatch,
+        HttpStatus.CREATED);
+  }
+
+  @PutMapping("/batch")
+  @ConcurrencyLimited(RequestClass.WRITE)
+  public ResponseEntity<List<BatchItemDto>> updateBatch(
+      @RequestBody List<UserUpdateDto> userUpdates) {
+    return executeBatch(
+        userUpdates,
+        userUpdate -> {
+          BeanValidator.validate(userUpdate, Default.class, UserUpdateDto.Batch.class);
+          User user = userMapper.toUser(userUpdate);
+          user.setId(userUpdate.getId());
+          return user;
+        },
+        userApplication::updateBatch,
+        HttpStatus.OK);
+  }
+
+  @DeleteMapping("/batch")
+  @ConcurrencyLimited(RequestClass.WRITE)
+  public ResponseEntity<List<BatchItemDto>> deleteBatch(
+      @RequestBody List<UserDeletionDto> userDeletions) {
+    return executeBatch(
+        userDeletions,
+        userDeletion -> {
+          BeanValidator.validate(userDeletion);
+          return userDeletion.getId();
+        },
+        userApplication::deleteBatch,
+        HttpStatus.OK);
+  }
+
   @DeleteMapping("/{id}")
+  @ConcurrencyLimited(RequestClass.WRITE)
   @ResponseStatus(HttpStatus.NO_CONTENT)
   public void delete(@PathVariable String id) {
     userApplication.delete(id);
   }
 
   @PutMapping("/{id}")
+  @ConcurrencyLimited(RequestClass.WRITE)
   public ResponseEntity<UserDto> update(
       @PathVariable String id, @Valid @RequestBody UserUpdateDto userUpdateDto) {
     User user = userApplication.update(userMapper.toUser(userUpdateDto), id);
@@ -64,15 +145,21 @@ public class HttpUserAdapter {
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<UserDto> get(@PathVariable String id) {
+  @ConcurrencyLimited(RequestClass.READ)
+  public ResponseEntity<UserDto> get(@PathVariable String id, WebRequest webRequest) {
     User user = userApplication.findById(id);
 
+    String eTag = eTagOf(user);
+
+    if (webRequest.checkNotModified(eTag)) return null;
+
     UserDto userResponse = userMapper.toUserDto(user);
 
-    return ResponseEntity.ok(userResponse);
+    return ResponseEntity.ok().eTag(eTag).body(userResponse);
   }
 
   @GetMapping
+  @ConcurrencyLimited(RequestClass.SEARCH)
   public ResponseEntity<List<UserDto>> getAll(
       @RequestParam(value = "status", required = false) final String status,
       @RequestParam(value = "name", required = false) final String name,
@@ -82,7 +169,10 @@ public class HttpUserAdapter {
       @RequestParam(value = "sort", required = false, defaultValue = "name") String sort,
       @RequestParam(value = "sort_type", required = false, defaultValue = "asc") String sortType,
       @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
-      @RequestParam(value = "limit", required = false) Integer limit) {
+      @RequestParam(value = "limit", required = false) Integer limit,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "count", required = false) String count,
+      WebRequest webRequest) {
 
     UserSearch userSearch =
         UserSearchBuild.builder()
@@ -93,17 +183,116 @@ public class HttpUserAdapter {
             .createdAtEnd(instantConverter.toInstant(createdAtEnd))
             .sort(sort)
             .sortType(sortType)
+            .cursor(cursor)
+            .countMode(count)
             .page(page)
             .limit(limit)
             .build();
 
+    if (webRequest.checkNotModified(userApplication.findSearchVersion())) return null;
+
     UserSearchResponse userSearchResponse = userApplication.findAll(userSearch);
 
     List<UserDto> response = userMapper.toUserDtos(userSearchResponse.getUsers());
 
+    ResponseEntity.BodyBuilder responseBuilder =
+        ResponseEntity.ok()
+            .eTag(userSearchResponse.getVersion())
+            .header(HEADER_ACCEPT_RANGE, valueOf(userSearchResponse.getMaximumLimitPerPage()))
+            .header(HEADER_TOTAL_TYPE, userSearchResponse.getTotalType().getValue());
+
+    if (userSearchResponse.getTotalType() != TotalType.ABSENT)
+      responseBuilder.header(HEADER_CONTENT_RANGE, valueOf(userSearchResponse.getTotal()));
+
+    if (userSearchResponse.getNextCursor() != null)
+      responseBuilder.header(HEADER_NEXT_CURSOR, userSearchResponse.getNextCursor());
+
+    return responseBuilder.body(response);
+  }
+
+  @GetMapping("/export")
+  @ConcurrencyLimited(RequestClass.EXPORT)
+  public ResponseEntity<StreamingResponseBody> export(
+      @RequestParam(value = "status", required = false) final String status,
+      @RequestParam(value = "name", required = false) final String name,
+      @RequestParam(value = "email", required = false) final String email,
+      @RequestParam(value = "created_at_start", required = false) final String createdAtStart,
+      @RequestParam(value = "created_at_end", required = false) final String createdAtEnd,
+      @RequestParam(value = "sort", required = false, defaultValue = "name") String sort,
+      @RequestParam(value = "sort_type", required = false, defaultValue = "asc") String sortType,
+      @RequestParam(value = "format", required = false) String format,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+
+    ExportFormat exportFormat = ExportFormat.fromValue(format, accept);
+
+    UserSearch userSearch =
+        UserSearchBuild.builder()
+            .status(status)
+            .name(name)
+            .email(email)
+            .createdAtStart(instantConverter.toInstant(createdAtStart))
+            .createdAtEnd(instantConverter.toInstant(createdAtEnd))
+            .sort(sort)
+            .sortType(sortType)
+            .page(1)
+            .build();
+
     return ResponseEntity.ok()
-        .header(HEADER_CONTENT_RANGE, valueOf(userSearchResponse.getTotal()))
-        .header(HEADER_ACCEPT_RANGE, valueOf(userSearchResponse.getMaximumLimitPerPage()))
-        .body(response);
+        .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+        .body(userExporter.export(userSearch, exportFormat));
+  }
+
+  private String eTagOf(User user) {
+    Instant modifiedAt = user.getUpdatedAt() != null ? user.getUpdatedAt() : user.getCreatedAt();
+
+    if (modifiedAt == null) return user.getId();
+
+    return user.getId()
+        + "-"
+        + Long.toHexString(modifiedAt.getEpochSecond())
+        + "."
+        + Integer.toHexString(modifiedAt.getNano());
+  }
+
+  private <D, T> ResponseEntity<List<BatchItemDto>> executeBatch(
+      List<D> requests,
+      Function<D, T> converter,
+      Function<List<T>, List<UserBatchItem>> operation,
+      HttpStatus successStatus) {
+    BatchItemDto[] response = new BatchItemDto[requests.size()];
+    List<T> validItems = new ArrayList<>();
+    List<Integer> validIndexes = new ArrayList<>();
+
+    for (int index = 0; index < requests.size(); index++) {
+      try {
+        validItems.add(converter.apply(requests.get(index)));
+        validIndexes.add(index);
+      } catch (Exception e) {
+        response[index] = toBatchItemDto(index, null, exceptionResolver.solve(e), successStatus);
+      }
+    }
+
+    for (UserBatchItem item : operation.apply(validItems)) {
+      int index = validIndexes.get(item.getIndex());
+      response[index] = toBatchItemDto(index, item.getUser(), item.getError(), successStatus);
+    }
+
+    return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(Arrays.asList(response));
+  }
+
+  private BatchItemDto toBatchItemDto(
+      int index, User user, DefaultErrorResponse<?> error, HttpStatus successStatus) {
+    BatchItemDto batchItemDto = new BatchItemDto();
+    batchItemDto.setIndex(index);
+
+    if (error != null) {
+      batchItemDto.setStatus(error.getStatus());
+      batchItemDto.setError(error);
+    } else {
+      batchItemDto.setStatus(successStatus.value());
+      batchItemDto.setUser(userMapper.toUserDto(user));
+    }
+
+    return batchItemDto;
   }
 }
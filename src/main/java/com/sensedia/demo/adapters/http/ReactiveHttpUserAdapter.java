@@ -0,0 +1,172 @@
+package com.sensedia.demo.adapters.http;
+
+import com.sensedia.commons.beans.BeanValidator;
+import com.sensedia.commons.converters.InstantConverter;
+import com.sensedia.demo.adapters.dtos.UserCreationDto;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.adapters.dtos.UserUpdateDto;
+import com.sensedia.demo.adapters.http.export.ExportFormat;
+import com.sensedia.demo.adapters.http.export.ReactiveUserExporter;
+import com.sensedia.demo.adapters.mappers.UserMapper;
+import com.sensedia.demo.domains.search.TotalType;
+import com.sensedia.demo.domains.search.UserSearch;
+import com.sensedia.demo.domains.search.UserSearchBuild;
+import com.sensedia.demo.domains.search.UserSearchResponse;
+import com.sensedia.demo.ports.ReactiveApplicationPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.sensedia.commons.headers.DefaultHeader.HEADER_ACCEPT_RANGE;
+import static com.sensedia.commons.headers.DefaultHeader.HEADER_CONTENT_RANGE;
+import static com.sensedia.commons.headers.DefaultHeader.HEADER_NEXT_CURSOR;
+import static com.sensedia.commons.headers.DefaultHeader.HEADER_TOTAL_TYPE;
+import static java.lang.String.valueOf;
+
+@RestController
+@Lazy(false)
+@RequestMapping("/users")
+@Profile("reactive")
+public class ReactiveHttpUserAdapter {
+
+  private final ReactiveApplicationPort userApplication;
+  private final UserMapper userMapper;
+  private final InstantConverter instantConverter;
+  private final ReactiveUserExporter userExporter;
+
+  @Autowired
+  public ReactiveHttpUserAdapter(
+      ReactiveApplicationPort userApplication,
+      UserMapper userMapper,
+      InstantConverter instantConverter,
+      ReactiveUserExporter userExporter) {
+    this.userApplication = userApplication;
+    this.userMapper = userMapper;
+    this.instantConverter = instantConverter;
+    this.userExporter = userExporter;
+  }
+
+  @PostMapping
+  public Mono<ResponseEntity<UserDto>> create(@RequestBody UserCreationDto userCreation) {
+    return userApplication
+        .create(userMapper.toUser(userCreation))
+        .map(user -> ResponseEntity.status(HttpStatus.CREATED).body(userMapper.toUserDto(user)));
+  }
+
+  @DeleteMapping("/{id}")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public Mono<Void> delete(@PathVariable String id) {
+    return userApplication.delete(id);
+  }
+
+  @PutMapping("/{id}")
+  public Mono<ResponseEntity<UserDto>> update(
+      @PathVariable String id, @RequestBody UserUpdateDto userUpdateDto) {
+    BeanValidator.validate(userUpdateDto);
+
+    return userApplication
+        .update(userMapper.toUser(userUpdateDto), id)
+        .map(user -> ResponseEntity.ok(userMapper.toUserDto(user)));
+  }
+
+  @GetMapping("/{id}")
+  public Mono<ResponseEntity<UserDto>> get(@PathVariable String id) {
+    return userApplication
+        .findById(id)
+        .map(user -> ResponseEntity.ok(userMapper.toUserDto(user)));
+  }
+
+  @GetMapping
+  public Mono<ResponseEntity<List<UserDto>>> getAll(
+      @RequestParam(value = "status", required = false) final String status,
+      @RequestParam(value = "name", required = false) final String name,
+      @RequestParam(value = "email", required = false) final String email,
+      @RequestParam(value = "created_at_start", required = false) final String createdAtStart,
+      @RequestParam(value = "created_at_end", required = false) final String createdAtEnd,
+      @RequestParam(value = "sort", required = false, defaultValue = "name") String sort,
+      @RequestParam(value = "sort_type", required = false, defaultValue = "asc") String sortType,
+      @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
+      @RequestParam(value = "limit", required = false) Integer limit,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "count", required = false) String count) {
+
+    UserSearch userSearch =
+        UserSearchBuild.builder()
+            .status(status)
+            .name(name)
+            .email(email)
+            .createdAtStart(instantConverter.toInstant(createdAtStart))
+            .createdAtEnd(instantConverter.toInstant(createdAtEnd))
+            .sort(sort)
+            .sortType(sortType)
+            .cursor(cursor)
+            .countMode(count)
+            .page(page)
+            .limit(limit)
+            .build();
+
+    return userApplication.findAll(userSearch).map(this::toSearchResponse);
+  }
+
+  @GetMapping("/export")
+  public ResponseEntity<Flux<DataBuffer>> export(
+      @RequestParam(value = "status", required = false) final String status,
+      @RequestParam(value = "name", required = false) final String name,
+      @RequestParam(value = "email", required = false) final String email,
+      @RequestParam(value = "created_at_start", required = false) final String createdAtStart,
+      @RequestParam(value = "created_at_end", required = false) final String createdAtEnd,
+      @RequestParam(value = "sort", required = false, defaultValue = "name") String sort,
+      @RequestParam(value = "sort_type", required = false, defaultValue = "asc") String sortType,
+      @RequestParam(value = "format", required = false) String format,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      ServerWebExchange exchange) {
+
+    ExportFormat exportFormat = ExportFormat.fromValue(format, accept);
+
+    UserSearch userSearch =
+        UserSearchBuild.builder()
+            .status(status)
+            .name(name)
+            .email(email)
+            .createdAtStart(instantConverter.toInstant(createdAtStart))
+            .createdAtEnd(instantConverter.toInstant(createdAtEnd))
+            .sort(sort)
+            .sortType(sortType)
+            .page(1)
+            .build();
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+        .body(
+            userExporter.export(
+                userSearch, exportFormat, exchange.getResponse().bufferFactory()));
+  }
+
+  private ResponseEntity<List<UserDto>> toSearchResponse(UserSearchResponse userSearchResponse) {
+    List<UserDto> response = userMapper.toUserDtos(userSearchResponse.getUsers());
+
+    ResponseEntity.BodyBuilder responseBuilder =
+        ResponseEntity.ok()
+            .header(HEADER_ACCEPT_RANGE, valueOf(userSearchResponse.getMaximumLimitPerPage()))
+            .header(HEADER_TOTAL_TYPE, userSearchResponse.getTotalType().getValue());
+
+    if (userSearchResponse.getTotalType() != TotalType.ABSENT)
+      responseBuilder.header(HEADER_CONTENT_RANGE, valueOf(userSearchResponse.getTotal()));
+
+    if (userSearchResponse.getNextCursor() != null)
+      responseBuilder.header(HEADER_NEXT_CURSOR, userSearchResponse.getNextCursor());
+
+    return responseBuilder.body(response);
+  }
+}
@@ -0,0 +1,23 @@
+package com.sensedia.demo.adapters.http.config;
+
+import com.sensedia.demo.adapters.http.limits.ConcurrencyLimitInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@Profile("!reactive")
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+  private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+  public ConcurrencyLimitConfig(ConcurrencyLimitInterceptor concurrencyLimitInterceptor) {
+    this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(concurrencyLimitInterceptor);
+  }
+}
@@ -0,0 +1,21 @@
+package com.sensedia.demo.adapters.http.config;
+
+import com.sensedia.commons.threads.VirtualThreads;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(value = "app.threads.virtual", havingValue = "true")
+public class VirtualThreadsServerConfig {
+
+  @Bean
+  public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadsProtocolHandlerCustomizer(
+      VirtualThreads virtualThreads) {
+    return protocolHandler -> virtualThreads.getExecutor().ifPresent(protocolHandler::setExecutor);
+  }
+}
@@ -0,0 +1,77 @@
+package com.sensedia.demo.adapters.http.export;
+
+import com.sensedia.demo.adapters.dtos.UserDto;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public class CsvUserExportWriter implements UserExportWriter {
+
+  private static final String HEADER = "id,name,email,status,created_at,updated_at";
+  private static final char SEPARATOR = ',';
+  private static final char LINE_SEPARATOR = '\n';
+  private static final char QUOTE = '"';
+
+  private final Writer writer;
+
+  public CsvUserExportWriter(OutputStream outputStream) throws IOException {
+    this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    this.writer.write(HEADER);
+    this.writer.write(LINE_SEPARATOR);
+  }
+
+  @Override
+  public void write(UserDto userDto) throws IOException {
+    writeField(userDto.getId());
+    writer.write(SEPARATOR);
+    writeField(userDto.getName());
+    writer.write(SEPARATOR);
+    writeField(userDto.getEmail());
+    writer.write(SEPARATOR);
+    writeField(userDto.getStatus());
+    writer.write(SEPARATOR);
+    writeField(userDto.getCreatedAt() == null ? null : userDto.getCreatedAt().toString());
+    writer.write(SEPARATOR);
+    writeField(userDto.getUpdatedAt() == null ? null : userDto.getUpdatedAt().toString());
+    writer.write(LINE_SEPARATOR);
+  }
+
+  private void writeField(String value) throws IOException {
+    if (value == null) return;
+
+    if (!requiresQuotes(value)) {
+      writer.write(value);
+      return;
+    }
+
+    writer.write(QUOTE);
+    writer.write(value.replace("\"", "\"\""));
+    writer.write(QUOTE);
+  }
+
+  private boolean requiresQuotes(String value) {
+    for (int index = 0; index < value.length(); index++) {
+      char character = value.charAt(index);
+
+      if (character == SEPARATOR || character == QUOTE || character == '\n' || character == '\r') {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    writer.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.flush();
+  }
+}
@@ -0,0 +1,34 @@
+package com.sensedia.demo.adapters.http.export;
+
+import com.sensedia.commons.errors.exceptions.BadRequestException;
+import org.apache.commons.lang3.StringUtils;
+
+public enum ExportFormat {
+  NDJSON("application/x-ndjson"),
+  CSV("text/csv");
+
+  private final String mediaType;
+
+  ExportFormat(String mediaType) {
+    this.mediaType = mediaType;
+  }
+
+  public String getMediaType() {
+    return mediaType;
+  }
+
+  public static ExportFormat fromValue(String value, String accept) {
+    if (StringUtils.isBlank(value)) {
+      return StringUtils.contains(accept, CSV.mediaType) ? CSV : NDJSON;
+    }
+
+    for (ExportFormat exportFormat : ExportFormat.values()) {
+      if (exportFormat.name().equalsIgnoreCase(value)) {
+        return exportFormat;
+      }
+    }
+
+    throw new BadRequestException(
+        "Invalid format [" + value + "], accepted values: [ndjson, csv]");
+  }
+}
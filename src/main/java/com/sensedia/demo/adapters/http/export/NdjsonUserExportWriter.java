@@ -0,0 +1,48 @@
+package com.sensedia.demo.adapters.http.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sensedia.demo.adapters.dtos.UserDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class NdjsonUserExportWriter implements UserExportWriter {
+
+  private static final char LINE_SEPARATOR = '\n';
+
+  private final JsonGenerator generator;
+  private final ObjectWriter writer;
+
+  public NdjsonUserExportWriter(ObjectMapper objectMapper, OutputStream outputStream)
+      throws IOException {
+    this.writer =
+        objectMapper
+            .writerFor(UserDto.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    this.generator =
+        objectMapper
+            .getFactory()
+            .createGenerator(outputStream)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    this.generator.setRootValueSeparator(null);
+  }
+
+  @Override
+  public void write(UserDto userDto) throws IOException {
+    writer.writeValue(generator, userDto);
+    generator.writeRaw(LINE_SEPARATOR);
+  }
+
+  @Override
+  public void flush() throws IOException {
+    generator.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    generator.close();
+  }
+}
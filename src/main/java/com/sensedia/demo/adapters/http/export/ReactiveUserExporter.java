@@ -0,0 +1,91 @@
+package com.sensedia.demo.adapters.http.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.adapters.mappers.UserMapper;
+import com.sensedia.demo.domains.search.UserSearch;
+import com.sensedia.demo.ports.ReactiveApplicationPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@Component
+@Profile("reactive")
+public class ReactiveUserExporter {
+
+  private final ReactiveApplicationPort applicationPort;
+  private final UserMapper userMapper;
+  private final ObjectMapper objectMapper;
+
+  @Value("${app.repository.exportBatchSize}")
+  private int exportBatchSize;
+
+  public ReactiveUserExporter(
+      ReactiveApplicationPort applicationPort, UserMapper userMapper, ObjectMapper objectMapper) {
+    this.applicationPort = applicationPort;
+    this.userMapper = userMapper;
+    this.objectMapper = objectMapper;
+  }
+
+  public Flux<DataBuffer> export(
+      UserSearch userSearch, ExportFormat format, DataBufferFactory bufferFactory) {
+    return Flux.using(
+        () -> new ExportBuffer(format),
+        buffer ->
+            applicationPort
+                .export(userSearch)
+                .map(userMapper::toUserDto)
+                .buffer(exportBatchSize)
+                .map(users -> bufferFactory.wrap(buffer.write(users)))
+                .concatWith(
+                    Mono.fromCallable(buffer::drain)
+                        .filter(bytes -> bytes.length > 0)
+                        .map(bufferFactory::wrap)),
+        ExportBuffer::close);
+  }
+
+  private class ExportBuffer {
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private final UserExportWriter writer;
+
+    private ExportBuffer(ExportFormat format) throws IOException {
+      this.writer =
+          format == ExportFormat.CSV
+              ? new CsvUserExportWriter(outputStream)
+              : new NdjsonUserExportWriter(objectMapper, outputStream);
+    }
+
+    private byte[] write(List<UserDto> users) {
+      try {
+        for (UserDto user : users) writer.write(user);
+        return drain();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private byte[] drain() throws IOException {
+      writer.flush();
+      byte[] bytes = outputStream.toByteArray();
+      outputStream.reset();
+      return bytes;
+    }
+
+    private void close() {
+      try {
+        writer.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
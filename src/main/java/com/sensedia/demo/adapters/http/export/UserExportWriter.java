@@ -0,0 +1,12 @@
+package com.sensedia.demo.adapters.http.export;
+
+import com.sensedia.demo.adapters.dtos.UserDto;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+public interface UserExportWriter extends Closeable, Flushable {
+
+  void write(UserDto userDto) throws IOException;
+}
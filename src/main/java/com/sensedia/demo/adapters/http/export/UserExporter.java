@@ -0,0 +1,51 @@
+package com.sensedia.demo.adapters.http.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sensedia.demo.adapters.mappers.UserMapper;
+import com.sensedia.demo.domains.search.UserSearch;
+import com.sensedia.demo.ports.ApplicationPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@Component
+@Profile("!reactive")
+public class UserExporter {
+
+  private final ApplicationPort applicationPort;
+  private final UserMapper userMapper;
+  private final ObjectMapper objectMapper;
+
+  public UserExporter(
+      ApplicationPort applicationPort, UserMapper userMapper, ObjectMapper objectMapper) {
+    this.applicationPort = applicationPort;
+    this.userMapper = userMapper;
+    this.objectMapper = objectMapper;
+  }
+
+  public StreamingResponseBody export(UserSearch userSearch, ExportFormat format) {
+    return outputStream -> {
+      try (UserExportWriter writer = createWriter(format, outputStream)) {
+        applicationPort.export(
+            userSearch,
+            user -> {
+              try {
+                writer.write(userMapper.toUserDto(user));
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+      }
+    };
+  }
+
+  private UserExportWriter createWriter(ExportFormat format, OutputStream outputStream)
+      throws IOException {
+    if (format == ExportFormat.CSV) return new CsvUserExportWriter(outputStream);
+    return new NdjsonUserExportWriter(objectMapper, outputStream);
+  }
+}
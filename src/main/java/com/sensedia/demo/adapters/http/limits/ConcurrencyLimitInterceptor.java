@@ -0,0 +1,67 @@
+package com.sensedia.demo.adapters.http.limits;
+
+import com.sensedia.commons.errors.exceptions.TooManyRequestsException;
+import com.sensedia.commons.limits.GradientLimiter;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@Component
+@Profile("!reactive")
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName();
+
+  private final ConcurrencyLimits concurrencyLimits;
+
+  public ConcurrencyLimitInterceptor(ConcurrencyLimits concurrencyLimits) {
+    this.concurrencyLimits = concurrencyLimits;
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (!concurrencyLimits.isEnabled() || !(handler instanceof HandlerMethod)) return true;
+    if (request.getAttribute(PERMIT_ATTRIBUTE) != null) return true;
+
+    ConcurrencyLimited concurrencyLimited =
+        ((HandlerMethod) handler).getMethodAnnotation(ConcurrencyLimited.class);
+
+    if (concurrencyLimited == null) return true;
+
+    GradientLimiter limiter = concurrencyLimits.get(concurrencyLimited.value());
+
+    if (!limiter.tryAcquire()) throw new TooManyRequestsException();
+
+    request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception e) {
+    Permit permit = (Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+
+    if (permit == null) return;
+
+    request.removeAttribute(PERMIT_ATTRIBUTE);
+
+    permit.limiter.release(
+        System.nanoTime() - permit.start, e != null || response.getStatus() >= 500);
+  }
+
+  private static class Permit {
+    private final GradientLimiter limiter;
+    private final long start;
+
+    private Permit(GradientLimiter limiter, long start) {
+      this.limiter = limiter;
+      this.start = start;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.sensedia.demo.adapters.http.limits;
+
+import com.sensedia.commons.limits.GradientLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+@Profile("!reactive")
+public class ConcurrencyLimits {
+
+  private static final String LIMIT_METRIC = "user.http.limit";
+  private static final String IN_FLIGHT_METRIC = "user.http.limit.inflight";
+  private static final String REJECTIONS_METRIC = "user.http.limit.rejections";
+  private static final String CLASS_TAG = "class";
+
+  private final Map<RequestClass, GradientLimiter> limiters = new EnumMap<>(RequestClass.class);
+  private final boolean enabled;
+
+  public ConcurrencyLimits(
+      MeterRegistry meterRegistry,
+      @Value("${app.http.limits.enabled}") boolean enabled,
+      @Value("${app.http.limits.minimumLimit}") int minimumLimit,
+      @Value("${app.http.limits.search.initialLimit}") int searchInitialLimit,
+      @Value("${app.http.limits.search.maximumLimit}") int searchMaximumLimit,
+      @Value("${app.http.limits.read.initialLimit}") int readInitialLimit,
+      @Value("${app.http.limits.read.maximumLimit}") int readMaximumLimit,
+      @Value("${app.http.limits.write.initialLimit}") int writeInitialLimit,
+      @Value("${app.http.limits.write.maximumLimit}") int writeMaximumLimit,
+      @Value("${app.http.limits.export.initialLimit}") int exportInitialLimit,
+      @Value("${app.http.limits.export.maximumLimit}") int exportMaximumLimit) {
+    this.enabled = enabled;
+
+    limiters.put(
+        RequestClass.SEARCH,
+        new GradientLimiter(searchInitialLimit, minimumLimit, searchMaximumLimit));
+    limiters.put(
+        RequestClass.READ, new GradientLimiter(readInitialLimit, minimumLimit, readMaximumLimit));
+    limiters.put(
+        RequestClass.WRITE,
+        new GradientLimiter(writeInitialLimit, minimumLimit, writeMaximumLimit));
+    limiters.put(
+        RequestClass.EXPORT,
+        new GradientLimiter(exportInitialLimit, minimumLimit, exportMaximumLimit));
+
+    limiters.forEach((requestClass, limiter) -> register(meterRegistry, requestClass, limiter));
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public GradientLimiter get(RequestClass requestClass) {
+    return limiters.get(requestClass);
+  }
+
+  private void register(
+      MeterRegistry meterRegistry, RequestClass requestClass, GradientLimiter limiter) {
+    Gauge.builder(LIMIT_METRIC, limiter, GradientLimiter::getLimit)
+        .tag(CLASS_TAG, requestClass.getValue())
+        .register(meterRegistry);
+
+    Gauge.builder(IN_FLIGHT_METRIC, limiter, GradientLimiter::getInFlight)
+        .tag(CLASS_TAG, requestClass.getValue())
+        .register(meterRegistry);
+
+    FunctionCounter.builder(REJECTIONS_METRIC, limiter, GradientLimiter::getRejections)
+        .tag(CLASS_TAG, requestClass.getValue())
+        .register(meterRegistry);
+  }
+}
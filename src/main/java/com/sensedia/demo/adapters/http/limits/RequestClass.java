@@ -0,0 +1,12 @@
+package com.sensedia.demo.adapters.http.limits;
+
+public enum RequestClass {
+  SEARCH,
+  READ,
+  WRITE,
+  EXPORT;
+
+  public String getValue() {
+    return name().toLowerCase();
+  }
+}
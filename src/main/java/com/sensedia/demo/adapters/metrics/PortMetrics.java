@@ -0,0 +1,92 @@
+package com.sensedia.demo.adapters.metrics;
+
+import com.sensedia.commons.errors.resolvers.ExceptionResolver;
+import com.sensedia.demo.adapters.repository.indexes.QueryShape;
+import com.sensedia.demo.domains.search.UserSearch;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class PortMetrics {
+
+  public static final String PORT_CALLS_METRIC = "user.port.calls";
+  public static final String REPOSITORY_SEARCH_METRIC = "user.repository.search";
+
+  private static final String NONE = "none";
+  private static final String SUCCESS = "SUCCESS";
+
+  private final MeterRegistry meterRegistry;
+  private final ExceptionResolver exceptionResolver;
+  private final boolean enabled;
+
+  public PortMetrics(
+      MeterRegistry meterRegistry,
+      ExceptionResolver exceptionResolver,
+      @Value("${app.metrics.ports.enabled}") boolean enabled) {
+    this.meterRegistry = meterRegistry;
+    this.exceptionResolver = exceptionResolver;
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public Tags searchTags(UserSearch userSearch) {
+    if (userSearch == null) return Tags.of("sort", NONE, "filters", NONE);
+
+    String filters = QueryShape.filtersOf(userSearch);
+
+    return Tags.of(
+        "sort",
+        userSearch.getSort() != null ? userSearch.getSort().getFieldName() : NONE,
+        "filters",
+        StringUtils.isNotEmpty(filters) ? filters : NONE);
+  }
+
+  public <T> T record(String metric, Tags tags, Supplier<T> call) {
+    long start = System.nanoTime();
+    T result;
+
+    try {
+      result = call.get();
+    } catch (RuntimeException e) {
+      record(metric, tags, start, e);
+      throw e;
+    }
+
+    record(metric, tags, start, null);
+    return result;
+  }
+
+  public void record(String metric, Tags tags, long startNanos, Throwable error) {
+    if (!enabled) return;
+
+    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+
+    Timer.builder(metric)
+        .tags(tags)
+        .tag("outcome", outcomeOf(cause))
+        .tag("exception", cause != null ? cause.getClass().getSimpleName() : NONE)
+        .register(meterRegistry)
+        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private String outcomeOf(Throwable error) {
+    if (error == null) return SUCCESS;
+
+    HttpStatus.Series series =
+        HttpStatus.Series.resolve(exceptionResolver.solve(error).getStatus());
+
+    return series != null ? series.name() : HttpStatus.Series.SERVER_ERROR.name();
+  }
+}
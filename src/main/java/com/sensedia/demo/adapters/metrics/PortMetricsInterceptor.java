@@ -0,0 +1,74 @@
+package com.sensedia.demo.adapters.metrics;
+
+import com.sensedia.demo.domains.search.UserSearch;
+import io.micrometer.core.instrument.Tags;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+class PortMetricsInterceptor implements MethodInterceptor {
+
+  private final Class<?> port;
+  private final Tags tags;
+  private final Supplier<PortMetrics> portMetrics;
+  private final Map<Method, Optional<Tags>> operations = new ConcurrentHashMap<>();
+
+  PortMetricsInterceptor(
+      Class<?> port, String portName, String beanName, Supplier<PortMetrics> portMetrics) {
+    this.port = port;
+    this.tags = Tags.of("port", portName, "bean", beanName);
+    this.portMetrics = portMetrics;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Optional<Tags> operation = operations.computeIfAbsent(invocation.getMethod(), this::tagsOf);
+    PortMetrics metrics = portMetrics.get();
+
+    if (operation.isEmpty() || !metrics.isEnabled()) return invocation.proceed();
+
+    Tags callTags = operation.get().and(metrics.searchTags(userSearchOf(invocation)));
+    long start = System.nanoTime();
+    Object result;
+
+    try {
+      result = invocation.proceed();
+    } catch (Throwable e) {
+      metrics.record(PortMetrics.PORT_CALLS_METRIC, callTags, start, e);
+      throw e;
+    }
+
+    if (result instanceof CompletableFuture) {
+      ((CompletableFuture<?>) result)
+          .whenComplete(
+              (value, e) -> metrics.record(PortMetrics.PORT_CALLS_METRIC, callTags, start, e));
+    } else {
+      metrics.record(PortMetrics.PORT_CALLS_METRIC, callTags, start, null);
+    }
+
+    return result;
+  }
+
+  private Optional<Tags> tagsOf(Method method) {
+    if (!ClassUtils.hasMethod(port, method.getName(), method.getParameterTypes())) {
+      return Optional.empty();
+    }
+
+    return Optional.of(tags.and("operation", method.getName()));
+  }
+
+  private UserSearch userSearchOf(MethodInvocation invocation) {
+    for (Object argument : invocation.getArguments()) {
+      if (argument instanceof UserSearch) return (UserSearch) argument;
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,60 @@
+package com.sensedia.demo.adapters.metrics;
+
+import com.sensedia.demo.ports.AmqpPort;
+import com.sensedia.demo.ports.ApplicationPort;
+import com.sensedia.demo.ports.RepositoryPort;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Component
+public class PortMetricsPostProcessor implements BeanPostProcessor {
+
+  private static final Map<Class<?>, String> PORTS = new LinkedHashMap<>();
+
+  static {
+    PORTS.put(ApplicationPort.class, "application");
+    PORTS.put(RepositoryPort.class, "repository");
+    PORTS.put(AmqpPort.class, "amqp");
+  }
+
+  private final Supplier<PortMetrics> portMetrics;
+
+  public PortMetricsPostProcessor(ObjectProvider<PortMetrics> portMetrics) {
+    this.portMetrics = SingletonSupplier.of(portMetrics::getObject);
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    for (Map.Entry<Class<?>, String> port : PORTS.entrySet()) {
+      if (port.getKey().isInstance(bean)) {
+        return decorate(bean, beanName, port.getKey(), port.getValue());
+      }
+    }
+
+    return bean;
+  }
+
+  private Object decorate(Object bean, String beanName, Class<?> port, String portName) {
+    PortMetricsInterceptor interceptor =
+        new PortMetricsInterceptor(port, portName, beanName, portMetrics);
+
+    if (bean instanceof Advised && !((Advised) bean).isFrozen()) {
+      ((Advised) bean).addAdvice(0, interceptor);
+      return bean;
+    }
+
+    ProxyFactory proxyFactory = new ProxyFactory(bean);
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAdvice(interceptor);
+
+    return proxyFactory.getProxy(bean.getClass().getClassLoader());
+  }
+}
@@ -1,9 +1,14 @@
 package com.sensedia.demo.adapters.repository;
 
+import com.sensedia.demo.domains.User;
 import com.sensedia.demo.domains.search.UserSearch;
 import com.sensedia.demo.domains.search.UserSearchResponse;
 
+import java.util.function.Consumer;
+
 public interface AdvancedUserSearch {
 
   UserSearchResponse findAll(UserSearch userSearch);
+
+  void stream(UserSearch userSearch, Consumer<User> consumer);
 }
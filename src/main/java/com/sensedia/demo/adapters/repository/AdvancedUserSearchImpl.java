@@ -1,82 +1,183 @@
 package com.sensedia.demo.adapters.repository;
 
-import com.sensedia.commons.errors.exceptions.PreConditionException;
+import com.sensedia.demo.adapters.metrics.PortMetrics;
+import com.sensedia.demo.adapters.repository.indexes.IndexUsageTracker;
+import com.sensedia.demo.adapters.repository.indexes.QueryShape;
+import com.sensedia.demo.adapters.repository.indexes.SearchTimings;
+import com.sensedia.demo.adapters.repository.indexes.SlowSearchTracker;
 import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.search.CountMode;
+import com.sensedia.demo.domains.search.TotalType;
 import com.sensedia.demo.domains.search.UserSearch;
 import com.sensedia.demo.domains.search.UserSearchResponse;
-import org.apache.commons.lang3.StringUtils;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
-public class AdvancedUserSearchImpl implements AdvancedUserSearch {
+public class AdvancedUserSearchImpl implements AdvancedUserSearch, DisposableBean {
 
   private final MongoTemplate mongoTemplate;
-
-  @Value("${app.repository.maximumLimit}")
-  private int maximumLimit;
-
-  @Value("${app.repository.defaultLimit}")
-  private int defaultLimit;
+  private final ExecutorService countExecutor;
+  private final UserSearchQueries userSearchQueries;
+  private final IndexUsageTracker indexUsageTracker;
+  private final SlowSearchTracker slowSearchTracker;
+  private final PortMetrics portMetrics;
 
   @Autowired
-  public AdvancedUserSearchImpl(MongoTemplate mongoTemplate) {
+  public AdvancedUserSearchImpl(
+      MongoTemplate mongoTemplate,
+      UserSearchQueries userSearchQueries,
+      IndexUsageTracker indexUsageTracker,
+      SlowSearchTracker slowSearchTracker,
+      PortMetrics portMetrics,
+      @Value("${app.repository.countPoolSize}") int countPoolSize) {
     this.mongoTemplate = mongoTemplate;
+    this.userSearchQueries = userSearchQueries;
+    this.indexUsageTracker = indexUsageTracker;
+    this.slowSearchTracker = slowSearchTracker;
+    this.portMetrics = portMetrics;
+    this.countExecutor =
+        Executors.newFixedThreadPool(countPoolSize, new CustomizableThreadFactory("user-count-"));
   }
 
   @Override
   public UserSearchResponse findAll(UserSearch userSearch) {
-    int limit = userSearch.getLimit() == null ? defaultLimit : userSearch.getLimit();
-
-    if (limit > maximumLimit) {
-      throw new PreConditionException(
-          "The 'limit' field is greater than the configured maximum limit [" + maximumLimit + "]");
+    int limit = userSearchQueries.limitOf(userSearch);
+    CountMode countMode = userSearchQueries.countModeOf(userSearch);
+    Query query = userSearchQueries.page(userSearch, limit);
+    SearchTimings timings = new SearchTimings();
+
+    SearchTotal total;
+    List<User> users;
+    Throwable failure = null;
+
+    try {
+      if (countMode == CountMode.CONCURRENT) {
+        CompletableFuture<SearchTotal> futureTotal =
+            CompletableFuture.supplyAsync(
+                () -> timed("count", userSearch, countMode, timings, () -> exactCount(userSearch)),
+                countExecutor);
+
+        users = timed("find", userSearch, countMode, timings, () -> find(userSearch, query));
+        total = join(futureTotal);
+      } else {
+        total = timed("count", userSearch, countMode, timings, () -> count(userSearch, countMode));
+        users = timed("find", userSearch, countMode, timings, () -> find(userSearch, query));
+      }
+    } catch (RuntimeException | Error e) {
+      failure = e;
+      throw e;
+    } finally {
+      slowSearchTracker.record(userSearch, query, limit, timings, failure);
     }
 
-    Query query = buildQuery(userSearch);
-
-    Integer total = Math.toIntExact(mongoTemplate.count(query, User.class));
+    return new UserSearchResponse(
+        users,
+        total.value,
+        total.type,
+        userSearchQueries.getMaximumLimit(),
+        userSearchQueries.nextCursor(userSearch, users, limit));
+  }
 
-    int page = userSearch.getPage() > 0 ? userSearch.getPage() - 1 : 0;
+  @Override
+  public void stream(UserSearch userSearch, Consumer<User> consumer) {
+    Query query = userSearchQueries.export(userSearch);
 
-    Sort.Direction direction = Sort.Direction.fromString(userSearch.getSortType().getValue());
+    indexUsageTracker.record(QueryShape.of(userSearch), query);
 
-    query.with(
-        PageRequest.of(page, limit, Sort.by(direction, userSearch.getSort().getFieldName())));
+    try (CloseableIterator<User> users = mongoTemplate.stream(query, User.class)) {
+      users.forEachRemaining(consumer);
+    }
+  }
 
-    List<User> users = mongoTemplate.find(query, User.class);
+  @Override
+  public void destroy() {
+    countExecutor.shutdown();
+  }
 
-    return new UserSearchResponse(users, total, maximumLimit);
+  private <T> T timed(
+      String phase,
+      UserSearch userSearch,
+      CountMode countMode,
+      SearchTimings timings,
+      Supplier<T> query) {
+    Tags tags =
+        portMetrics
+            .searchTags(userSearch)
+            .and("phase", phase, "count", countMode.name().toLowerCase());
+
+    return portMetrics.record(
+        PortMetrics.REPOSITORY_SEARCH_METRIC, tags, () -> timings.time(phase, query));
   }
 
-  private Query buildQuery(UserSearch userSearch) {
-    Query query = new Query();
+  private List<User> find(UserSearch userSearch, Query query) {
+    indexUsageTracker.record(QueryShape.of(userSearch), query);
 
-    if (StringUtils.isNotBlank(userSearch.getEmail()))
-      query.addCriteria(Criteria.where("email").regex(".*" + userSearch.getEmail() + ".*", "i"));
+    return mongoTemplate.find(query, User.class);
+  }
 
-    if (StringUtils.isNotBlank(userSearch.getName()))
-      query.addCriteria(Criteria.where("name").regex(".*" + userSearch.getName() + ".*", "i"));
+  private SearchTotal count(UserSearch userSearch, CountMode countMode) {
+    switch (countMode) {
+      case NONE:
+        return new SearchTotal(0, TotalType.ABSENT);
+      case ESTIMATED:
+        return estimatedCount(userSearch);
+      default:
+        return exactCount(userSearch);
+    }
+  }
+
+  private SearchTotal exactCount(UserSearch userSearch) {
+    Query query = userSearchQueries.filter(userSearch);
+    return new SearchTotal(
+        Math.toIntExact(mongoTemplate.count(query, User.class)), TotalType.EXACT);
+  }
 
-    if (userSearch.getStatus() != null)
-      query.addCriteria(Criteria.where("status").is(userSearch.getStatus()));
+  private SearchTotal estimatedCount(UserSearch userSearch) {
+    Query query = userSearchQueries.filter(userSearch);
 
-    if (userSearch.getCreatedAtStart() != null || userSearch.getCreatedAtEnd() != null) {
-      Criteria criteria = Criteria.where("createdAt");
+    if (query.getQueryObject().isEmpty()) {
+      long total =
+          mongoTemplate.execute(User.class, collection -> collection.estimatedDocumentCount());
+      return new SearchTotal(Math.toIntExact(total), TotalType.ESTIMATED);
+    }
 
-      if (userSearch.getCreatedAtStart() != null) criteria.gte(userSearch.getCreatedAtStart());
+    int estimatedCountLimit = userSearchQueries.getEstimatedCountLimit();
+    int total = Math.toIntExact(mongoTemplate.count(query.limit(estimatedCountLimit), User.class));
 
-      if (userSearch.getCreatedAtEnd() != null) criteria.lt(userSearch.getCreatedAtEnd());
+    return new SearchTotal(
+        total, total < estimatedCountLimit ? TotalType.EXACT : TotalType.ESTIMATED);
+  }
 
-      query.addCriteria(criteria);
+  private SearchTotal join(CompletableFuture<SearchTotal> futureTotal) {
+    try {
+      return futureTotal.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+      throw e;
     }
+  }
 
-    return query;
+  private static class SearchTotal {
+    private final int value;
+    private final TotalType type;
+
+    private SearchTotal(int value, TotalType type) {
+      this.value = value;
+      this.type = type;
+    }
   }
 }
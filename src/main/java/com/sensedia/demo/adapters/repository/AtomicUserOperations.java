@@ -0,0 +1,12 @@
+package com.sensedia.demo.adapters.repository;
+
+import com.sensedia.demo.domains.User;
+
+import java.util.Optional;
+
+public interface AtomicUserOperations {
+
+  Optional<User> findAndUpdate(String id, User userForUpdate);
+
+  Optional<User> findAndDelete(String id);
+}
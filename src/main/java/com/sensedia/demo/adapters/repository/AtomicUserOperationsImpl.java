@@ -0,0 +1,35 @@
+package com.sensedia.demo.adapters.repository;
+
+import com.sensedia.demo.domains.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.Optional;
+
+import static com.sensedia.demo.adapters.repository.UserUpdates.byId;
+
+public class AtomicUserOperationsImpl implements AtomicUserOperations {
+
+  private final MongoTemplate mongoTemplate;
+
+  @Autowired
+  public AtomicUserOperationsImpl(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  @Override
+  public Optional<User> findAndUpdate(String id, User userForUpdate) {
+    return Optional.ofNullable(
+        mongoTemplate.findAndModify(
+            byId(id),
+            UserUpdates.of(userForUpdate),
+            FindAndModifyOptions.options().returnNew(true),
+            User.class));
+  }
+
+  @Override
+  public Optional<User> findAndDelete(String id) {
+    return Optional.ofNullable(mongoTemplate.findAndRemove(byId(id), User.class));
+  }
+}
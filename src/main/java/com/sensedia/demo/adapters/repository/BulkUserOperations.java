@@ -0,0 +1,14 @@
+package com.sensedia.demo.adapters.repository;
+
+import com.sensedia.demo.domains.User;
+
+import java.util.List;
+
+public interface BulkUserOperations {
+
+  BulkUserResult bulkInsert(List<User> users);
+
+  BulkUserResult bulkUpdate(List<User> users);
+
+  BulkUserResult bulkDelete(List<String> ids);
+}
@@ -0,0 +1,120 @@
+package com.sensedia.demo.adapters.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.sensedia.demo.domains.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.sensedia.demo.adapters.repository.UserUpdates.byId;
+
+public class BulkUserOperationsImpl implements BulkUserOperations {
+
+  private static final String ID_FIELD = "_id";
+
+  private final MongoTemplate mongoTemplate;
+
+  @Autowired
+  public BulkUserOperationsImpl(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  @Override
+  public BulkUserResult bulkInsert(List<User> users) {
+    if (users.isEmpty()) return BulkUserResult.empty();
+
+    Map<Integer, String> errors = new HashMap<>();
+    execute(bulkOperations().insert(users), errors);
+
+    return new BulkUserResult(errors, Collections.emptySet());
+  }
+
+  @Override
+  public BulkUserResult bulkUpdate(List<User> users) {
+    if (users.isEmpty()) return BulkUserResult.empty();
+
+    List<Pair<Query, Update>> updates =
+        users.stream()
+            .map(user -> Pair.of(byId(user.getId()), UserUpdates.of(user)))
+            .collect(Collectors.toList());
+
+    Map<Integer, String> errors = new HashMap<>();
+    BulkWriteResult result = execute(bulkOperations().updateOne(updates), errors);
+
+    if (result != null && result.getMatchedCount() == users.size() - errors.size()) {
+      return new BulkUserResult(errors, Collections.emptySet());
+    }
+
+    List<String> ids = users.stream().map(User::getId).collect(Collectors.toList());
+    Set<String> existingIds = findExistingIds(ids);
+    Set<Integer> misses = new HashSet<>();
+
+    for (int index = 0; index < ids.size(); index++) {
+      if (!errors.containsKey(index) && !existingIds.contains(ids.get(index))) misses.add(index);
+    }
+
+    return new BulkUserResult(errors, misses);
+  }
+
+  @Override
+  public BulkUserResult bulkDelete(List<String> ids) {
+    if (ids.isEmpty()) return BulkUserResult.empty();
+
+    List<Query> deletions = ids.stream().map(UserUpdates::byId).collect(Collectors.toList());
+
+    Map<Integer, String> errors = new HashMap<>();
+    BulkWriteResult result = execute(bulkOperations().remove(deletions), errors);
+
+    if (result != null && result.getDeletedCount() > 0) {
+      return new BulkUserResult(errors, Collections.emptySet());
+    }
+
+    Set<Integer> misses = new HashSet<>();
+
+    for (int index = 0; index < ids.size(); index++) {
+      if (!errors.containsKey(index)) misses.add(index);
+    }
+
+    return new BulkUserResult(errors, misses);
+  }
+
+  private BulkOperations bulkOperations() {
+    return mongoTemplate.bulkOps(BulkMode.UNORDERED, User.class);
+  }
+
+  private Set<String> findExistingIds(List<String> ids) {
+    Query query = new Query(Criteria.where(ID_FIELD).in(ids));
+    query.fields().include(ID_FIELD);
+
+    return mongoTemplate.find(query, User.class).stream()
+        .map(User::getId)
+        .collect(Collectors.toSet());
+  }
+
+  private BulkWriteResult execute(BulkOperations bulkOperations, Map<Integer, String> errors) {
+    try {
+      return bulkOperations.execute();
+    } catch (BulkOperationException e) {
+      for (BulkWriteError error : e.getErrors()) {
+        errors.put(error.getIndex(), error.getMessage());
+      }
+
+      return e.getResult();
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.sensedia.demo.adapters.repository;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+public class BulkUserResult {
+
+  private static final BulkUserResult EMPTY =
+      new BulkUserResult(Collections.emptyMap(), Collections.emptySet());
+
+  private final Map<Integer, String> errors;
+  private final Set<Integer> misses;
+
+  public BulkUserResult(Map<Integer, String> errors, Set<Integer> misses) {
+    this.errors = errors;
+    this.misses = misses;
+  }
+
+  public static BulkUserResult empty() {
+    return EMPTY;
+  }
+
+  public Map<Integer, String> getErrors() {
+    return errors;
+  }
+
+  public Set<Integer> getMisses() {
+    return misses;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this).append("errors", errors).append("misses", misses).toString();
+  }
+}
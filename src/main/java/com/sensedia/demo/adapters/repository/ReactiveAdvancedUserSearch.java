@@ -0,0 +1,14 @@
+package com.sensedia.demo.adapters.repository;
+
+import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.search.UserSearch;
+import com.sensedia.demo.domains.search.UserSearchResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAdvancedUserSearch {
+
+  Mono<UserSearchResponse> findAll(UserSearch userSearch);
+
+  Flux<User> stream(UserSearch userSearch);
+}
@@ -0,0 +1,116 @@
+package com.sensedia.demo.adapters.repository;
+
+import com.sensedia.demo.adapters.repository.indexes.IndexUsageTracker;
+import com.sensedia.demo.adapters.repository.indexes.QueryShape;
+import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.search.CountMode;
+import com.sensedia.demo.domains.search.TotalType;
+import com.sensedia.demo.domains.search.UserSearch;
+import com.sensedia.demo.domains.search.UserSearchResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ReactiveAdvancedUserSearchImpl implements ReactiveAdvancedUserSearch {
+
+  private final ReactiveMongoTemplate reactiveMongoTemplate;
+  private final UserSearchQueries userSearchQueries;
+  private final IndexUsageTracker indexUsageTracker;
+
+  @Autowired
+  public ReactiveAdvancedUserSearchImpl(
+      ReactiveMongoTemplate reactiveMongoTemplate,
+      UserSearchQueries userSearchQueries,
+      IndexUsageTracker indexUsageTracker) {
+    this.reactiveMongoTemplate = reactiveMongoTemplate;
+    this.userSearchQueries = userSearchQueries;
+    this.indexUsageTracker = indexUsageTracker;
+  }
+
+  @Override
+  public Mono<UserSearchResponse> findAll(UserSearch userSearch) {
+    return Mono.defer(
+        () -> {
+          int limit = userSearchQueries.limitOf(userSearch);
+          CountMode countMode = userSearchQueries.countModeOf(userSearch);
+
+          Query query = userSearchQueries.page(userSearch, limit);
+
+          indexUsageTracker.record(QueryShape.of(userSearch), query);
+
+          return Mono.zip(
+                  count(userSearch, countMode),
+                  reactiveMongoTemplate.find(query, User.class).collectList())
+              .map(
+                  result ->
+                      new UserSearchResponse(
+                          result.getT2(),
+                          result.getT1().value,
+                          result.getT1().type,
+                          userSearchQueries.getMaximumLimit(),
+                          userSearchQueries.nextCursor(userSearch, result.getT2(), limit)));
+        });
+  }
+
+  @Override
+  public Flux<User> stream(UserSearch userSearch) {
+    return Flux.defer(
+        () -> {
+          Query query = userSearchQueries.export(userSearch);
+
+          indexUsageTracker.record(QueryShape.of(userSearch), query);
+
+          return reactiveMongoTemplate.find(query, User.class);
+        });
+  }
+
+  private Mono<SearchTotal> count(UserSearch userSearch, CountMode countMode) {
+    switch (countMode) {
+      case NONE:
+        return Mono.just(new SearchTotal(0, TotalType.ABSENT));
+      case ESTIMATED:
+        return estimatedCount(userSearch);
+      default:
+        return exactCount(userSearch);
+    }
+  }
+
+  private Mono<SearchTotal> exactCount(UserSearch userSearch) {
+    return reactiveMongoTemplate
+        .count(userSearchQueries.filter(userSearch), User.class)
+        .map(total -> new SearchTotal(Math.toIntExact(total), TotalType.EXACT));
+  }
+
+  private Mono<SearchTotal> estimatedCount(UserSearch userSearch) {
+    Query query = userSearchQueries.filter(userSearch);
+
+    if (query.getQueryObject().isEmpty()) {
+      return reactiveMongoTemplate
+          .execute(User.class, collection -> collection.estimatedDocumentCount())
+          .next()
+          .map(total -> new SearchTotal(Math.toIntExact(total), TotalType.ESTIMATED));
+    }
+
+    int estimatedCountLimit = userSearchQueries.getEstimatedCountLimit();
+
+    return reactiveMongoTemplate
+        .count(query.limit(estimatedCountLimit), User.class)
+        .map(
+            total ->
+                new SearchTotal(
+                    Math.toIntExact(total),
+                    total < estimatedCountLimit ? TotalType.EXACT : TotalType.ESTIMATED));
+  }
+
+  private static class SearchTotal {
+    private final int value;
+    private final TotalType type;
+
+    private SearchTotal(int value, TotalType type) {
+      this.value = value;
+      this.type = type;
+    }
+  }
+}
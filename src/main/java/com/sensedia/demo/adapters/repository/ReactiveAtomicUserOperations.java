@@ -0,0 +1,11 @@
+package com.sensedia.demo.adapters.repository;
+
+import com.sensedia.demo.domains.User;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAtomicUserOperations {
+
+  Mono<User> findAndUpdate(String id, User userForUpdate);
+
+  Mono<User> findAndDelete(String id);
+}
@@ -0,0 +1,33 @@
+package com.sensedia.demo.adapters.repository;
+
+import com.sensedia.demo.domains.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import static com.sensedia.demo.adapters.repository.UserUpdates.byId;
+
+public class ReactiveAtomicUserOperationsImpl implements ReactiveAtomicUserOperations {
+
+  private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+  @Autowired
+  public ReactiveAtomicUserOperationsImpl(ReactiveMongoTemplate reactiveMongoTemplate) {
+    this.reactiveMongoTemplate = reactiveMongoTemplate;
+  }
+
+  @Override
+  public Mono<User> findAndUpdate(String id, User userForUpdate) {
+    return reactiveMongoTemplate.findAndModify(
+        byId(id),
+        UserUpdates.of(userForUpdate),
+        FindAndModifyOptions.options().returnNew(true),
+        User.class);
+  }
+
+  @Override
+  public Mono<User> findAndDelete(String id) {
+    return reactiveMongoTemplate.findAndRemove(byId(id), User.class);
+  }
+}
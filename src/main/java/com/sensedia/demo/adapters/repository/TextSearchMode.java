@@ -0,0 +1,21 @@
+package com.sensedia.demo.adapters.repository;
+
+import org.apache.commons.lang3.StringUtils;
+
+public enum TextSearchMode {
+  TOKENS,
+  REGEX;
+
+  public static TextSearchMode fromValue(String value) {
+    if (StringUtils.isBlank(value)) return TOKENS;
+
+    for (TextSearchMode mode : TextSearchMode.values()) {
+      if (mode.name().equalsIgnoreCase(value)) {
+        return mode;
+      }
+    }
+
+    throw new IllegalArgumentException(
+        "Invalid text search mode [" + value + "], accepted values: [tokens, regex]");
+  }
+}
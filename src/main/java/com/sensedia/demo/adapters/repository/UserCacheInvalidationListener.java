@@ -0,0 +1,38 @@
+package com.sensedia.demo.adapters.repository;
+
+import com.sensedia.demo.applications.UserCache;
+import com.sensedia.demo.domains.User;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserCacheInvalidationListener extends AbstractMongoEventListener<User> {
+
+  private static final String ID_FIELD = "_id";
+
+  private final UserCache userCache;
+
+  public UserCacheInvalidationListener(UserCache userCache) {
+    this.userCache = userCache;
+  }
+
+  @Override
+  public void onAfterSave(AfterSaveEvent<User> event) {
+    userCache.invalidate(event.getSource().getId());
+  }
+
+  @Override
+  public void onAfterDelete(AfterDeleteEvent<User> event) {
+    Document query = event.getSource();
+    Object id = query == null ? null : query.get(ID_FIELD);
+
+    if (id instanceof String) {
+      userCache.invalidate((String) id);
+    } else {
+      userCache.invalidateAll();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.sensedia.demo.adapters.repository;
+
+import com.sensedia.demo.domains.User;
+import org.bson.Document;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+public class UserSearchFields {
+
+  public static final String NAME_NORMALIZED = "nameNormalized";
+  public static final String NAME_TOKENS = "nameTokens";
+  public static final String EMAIL_NORMALIZED = "emailNormalized";
+  public static final String EMAIL_TOKENS = "emailTokens";
+
+  public static final int MAXIMUM_TOKEN_LENGTH = 3;
+
+  private UserSearchFields() {}
+
+  public static void write(User user, Document document) {
+    document.putAll(of(user));
+  }
+
+  public static Map<String, Object> of(User user) {
+    String name = normalize(user.getName());
+    String email = normalize(user.getEmail());
+
+    Map<String, Object> fields = new LinkedHashMap<>();
+    fields.put(NAME_NORMALIZED, name);
+    fields.put(NAME_TOKENS, tokenize(name));
+    fields.put(EMAIL_NORMALIZED, email);
+    fields.put(EMAIL_TOKENS, tokenize(email));
+    return fields;
+  }
+
+  public static String normalize(String value) {
+    return value == null ? null : value.toLowerCase(Locale.ROOT);
+  }
+
+  public static Set<String> tokenize(String normalizedValue) {
+    Set<String> tokens = new LinkedHashSet<>();
+
+    if (normalizedValue == null) return tokens;
+
+    for (int size = 1; size <= MAXIMUM_TOKEN_LENGTH; size++) {
+      for (int start = 0; start + size <= normalizedValue.length(); start++) {
+        tokens.add(normalizedValue.substring(start, start + size));
+      }
+    }
+
+    return tokens;
+  }
+
+  public static Set<String> queryTokens(String normalizedValue) {
+    Set<String> tokens = new LinkedHashSet<>();
+
+    if (normalizedValue.length() <= MAXIMUM_TOKEN_LENGTH) {
+      tokens.add(normalizedValue);
+      return tokens;
+    }
+
+    for (int start = 0; start + MAXIMUM_TOKEN_LENGTH <= normalizedValue.length(); start++) {
+      tokens.add(normalizedValue.substring(start, start + MAXIMUM_TOKEN_LENGTH));
+    }
+
+    return tokens;
+  }
+}
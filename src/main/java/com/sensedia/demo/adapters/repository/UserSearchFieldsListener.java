@@ -0,0 +1,15 @@
+package com.sensedia.demo.adapters.repository;
+
+import com.sensedia.demo.domains.User;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserSearchFieldsListener extends AbstractMongoEventListener<User> {
+
+  @Override
+  public void onBeforeSave(BeforeSaveEvent<User> event) {
+    if (event.getDocument() != null) UserSearchFields.write(event.getSource(), event.getDocument());
+  }
+}
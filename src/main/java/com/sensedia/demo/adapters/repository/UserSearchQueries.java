@@ -0,0 +1,164 @@
+package com.sensedia.demo.adapters.repository;
+
+import com.sensedia.commons.errors.exceptions.PreConditionException;
+import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.search.CountMode;
+import com.sensedia.demo.domains.search.UserSearch;
+import com.sensedia.demo.domains.search.UserSearchCursor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static com.sensedia.demo.adapters.repository.UserSearchFields.*;
+
+@Component
+public class UserSearchQueries {
+
+  private static final String ID_FIELD = "id";
+
+  private final TextSearchMode textSearchMode;
+
+  @Value("${app.repository.maximumLimit}")
+  private int maximumLimit;
+
+  @Value("${app.repository.defaultLimit}")
+  private int defaultLimit;
+
+  @Value("${app.repository.defaultCountMode}")
+  private String defaultCountMode;
+
+  @Value("${app.repository.estimatedCountLimit}")
+  private int estimatedCountLimit;
+
+  @Value("${app.repository.exportBatchSize}")
+  private int exportBatchSize;
+
+  public UserSearchQueries(@Value("${app.repository.textSearchMode}") String textSearchMode) {
+    this.textSearchMode = TextSearchMode.fromValue(textSearchMode);
+  }
+
+  public int getMaximumLimit() {
+    return maximumLimit;
+  }
+
+  public int getEstimatedCountLimit() {
+    return estimatedCountLimit;
+  }
+
+  public int limitOf(UserSearch userSearch) {
+    int limit = userSearch.getLimit() == null ? defaultLimit : userSearch.getLimit();
+
+    if (limit > maximumLimit) {
+      throw new PreConditionException(
+          "The 'limit' field is greater than the configured maximum limit [" + maximumLimit + "]");
+    }
+
+    return limit;
+  }
+
+  public CountMode countModeOf(UserSearch userSearch) {
+    return userSearch.getCountMode() == null
+        ? CountMode.fromValue(defaultCountMode)
+        : userSearch.getCountMode();
+  }
+
+  public Query filter(UserSearch userSearch) {
+    Query query = new Query();
+
+    if (StringUtils.isNotBlank(userSearch.getEmail()))
+      addTextCriteria(query, "email", EMAIL_NORMALIZED, EMAIL_TOKENS, userSearch.getEmail());
+
+    if (StringUtils.isNotBlank(userSearch.getName()))
+      addTextCriteria(query, "name", NAME_NORMALIZED, NAME_TOKENS, userSearch.getName());
+
+    if (userSearch.getStatus() != null)
+      query.addCriteria(Criteria.where("status").is(userSearch.getStatus()));
+
+    if (userSearch.getCreatedAtStart() != null || userSearch.getCreatedAtEnd() != null) {
+      Criteria criteria = Criteria.where("createdAt");
+
+      if (userSearch.getCreatedAtStart() != null) criteria.gte(userSearch.getCreatedAtStart());
+
+      if (userSearch.getCreatedAtEnd() != null) criteria.lt(userSearch.getCreatedAtEnd());
+
+      query.addCriteria(criteria);
+    }
+
+    return query;
+  }
+
+  public Query page(UserSearch userSearch, int limit) {
+    Query query = filter(userSearch);
+
+    Sort sort = sortOf(userSearch);
+    Sort.Direction direction = sort.iterator().next().getDirection();
+
+    if (userSearch.getCursor() != null) {
+      query.addCriteria(buildCursorCriteria(userSearch.getCursor(), direction));
+      query.with(sort).limit(limit);
+    } else {
+      int page = userSearch.getPage() > 0 ? userSearch.getPage() - 1 : 0;
+      query.with(PageRequest.of(page, limit, sort));
+    }
+
+    return query;
+  }
+
+  public Query export(UserSearch userSearch) {
+    return filter(userSearch).with(sortOf(userSearch)).cursorBatchSize(exportBatchSize);
+  }
+
+  public String nextCursor(UserSearch userSearch, List<User> users, int limit) {
+    if (users.size() < limit) return null;
+
+    User lastUser = users.get(users.size() - 1);
+
+    return UserSearchCursor.of(userSearch.getSort(), userSearch.getSortType(), lastUser).encode();
+  }
+
+  private Sort sortOf(UserSearch userSearch) {
+    Sort.Direction direction = Sort.Direction.fromString(userSearch.getSortType().getValue());
+    return Sort.by(direction, userSearch.getSort().getFieldName(), ID_FIELD);
+  }
+
+  private Criteria buildCursorCriteria(UserSearchCursor cursor, Sort.Direction direction) {
+    String fieldName = cursor.getSort().getFieldName();
+    Object lastSortValue = cursor.getLastSortValue();
+
+    if (direction.isAscending()) {
+      return new Criteria()
+          .orOperator(
+              Criteria.where(fieldName).gt(lastSortValue),
+              Criteria.where(fieldName).is(lastSortValue).and(ID_FIELD).gt(cursor.getLastId()));
+    }
+
+    return new Criteria()
+        .orOperator(
+            Criteria.where(fieldName).lt(lastSortValue),
+            Criteria.where(fieldName).is(lastSortValue).and(ID_FIELD).lt(cursor.getLastId()));
+  }
+
+  private void addTextCriteria(
+      Query query, String field, String normalizedField, String tokensField, String value) {
+    if (textSearchMode == TextSearchMode.REGEX) {
+      query.addCriteria(Criteria.where(field).regex(Pattern.quote(value), "i"));
+      return;
+    }
+
+    String normalizedValue = UserSearchFields.normalize(value);
+    Set<String> tokens = UserSearchFields.queryTokens(normalizedValue);
+
+    query.addCriteria(Criteria.where(tokensField).all(tokens));
+
+    if (normalizedValue.length() > UserSearchFields.MAXIMUM_TOKEN_LENGTH)
+      query.addCriteria(Criteria.where(normalizedField).regex(Pattern.quote(normalizedValue)));
+  }
+}
@@ -0,0 +1,29 @@
+package com.sensedia.demo.adapters.repository;
+
+import com.sensedia.demo.domains.User;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+class UserUpdates {
+
+  private UserUpdates() {}
+
+  static Query byId(String id) {
+    return new Query(Criteria.where("id").is(id));
+  }
+
+  static Update of(User userForUpdate) {
+    Update update =
+        new Update()
+            .set("name", userForUpdate.getName())
+            .set("email", userForUpdate.getEmail())
+            .set("updatedAt", userForUpdate.getUpdatedAt());
+
+    if (userForUpdate.getStatus() != null) update.set("status", userForUpdate.getStatus());
+
+    UserSearchFields.of(userForUpdate).forEach(update::set);
+
+    return update;
+  }
+}
@@ -0,0 +1,17 @@
+package com.sensedia.demo.adapters.repository.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+@Configuration
+@ConditionalOnProperty(value = "app.outbox.transactional", havingValue = "true")
+public class MongoTransactionConfig {
+
+  @Bean
+  public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+    return new MongoTransactionManager(databaseFactory);
+  }
+}
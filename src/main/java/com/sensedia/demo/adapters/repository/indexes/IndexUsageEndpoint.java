@@ -0,0 +1,60 @@
+package com.sensedia.demo.adapters.repository.indexes;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@Endpoint(id = "userindexes")
+public class IndexUsageEndpoint {
+
+  private final UserIndexCatalog userIndexCatalog;
+  private final IndexUsageTracker indexUsageTracker;
+
+  public IndexUsageEndpoint(
+      UserIndexCatalog userIndexCatalog, IndexUsageTracker indexUsageTracker) {
+    this.userIndexCatalog = userIndexCatalog;
+    this.indexUsageTracker = indexUsageTracker;
+  }
+
+  @ReadOperation
+  public Map<String, Object> indexes() {
+    Map<String, Object> catalog = new LinkedHashMap<>();
+
+    for (Index index : userIndexCatalog.getIndexes()) {
+      catalog.put(index.getIndexOptions().getString("name"), index.getIndexKeys());
+    }
+
+    List<Map<String, Object>> shapes =
+        indexUsageTracker.getUsages().stream().map(this::toShape).collect(Collectors.toList());
+
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put("catalog", catalog);
+    response.put("shapes", shapes);
+    return response;
+  }
+
+  private Map<String, Object> toShape(QueryShapeUsage usage) {
+    Map<String, Object> shape = new LinkedHashMap<>();
+    shape.put("shape", usage.getShape());
+    shape.put("executions", usage.getExecutions());
+    shape.put("lastExplainedAt", usage.getLastExplainedAt());
+
+    QueryPlan plan = usage.getLastPlan();
+
+    if (plan != null) {
+      shape.put("indexes", plan.getIndexNames());
+      shape.put("stages", plan.getStages());
+      shape.put("collectionScan", plan.isCollectionScan());
+      shape.put("inMemorySort", plan.isInMemorySort());
+    }
+
+    return shape;
+  }
+}
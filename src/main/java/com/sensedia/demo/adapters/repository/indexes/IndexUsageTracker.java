@@ -0,0 +1,72 @@
+package com.sensedia.demo.adapters.repository.indexes;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Component
+public class IndexUsageTracker implements DisposableBean {
+  private static final Logger log = LoggerFactory.getLogger(IndexUsageTracker.class);
+
+  private final QueryPlanExplainer queryPlanExplainer;
+  private final Map<String, QueryShapeUsage> usages = new ConcurrentHashMap<>();
+  private final ExecutorService explainExecutor =
+      Executors.newSingleThreadExecutor(new CustomizableThreadFactory("user-explain-"));
+
+  @Value("${app.repository.indexUsage.enabled}")
+  private boolean enabled;
+
+  @Value("${app.repository.indexUsage.explainInterval}")
+  private Duration explainInterval;
+
+  public IndexUsageTracker(QueryPlanExplainer queryPlanExplainer) {
+    this.queryPlanExplainer = queryPlanExplainer;
+  }
+
+  public void record(String shape, Query query) {
+    if (!enabled) return;
+
+    QueryShapeUsage usage = usages.computeIfAbsent(shape, QueryShapeUsage::new);
+    usage.increment();
+
+    if (!usage.claimExplain(explainInterval)) return;
+
+    Document explainCommand = queryPlanExplainer.toExplainCommand(query);
+
+    explainExecutor.execute(() -> explain(usage, explainCommand));
+  }
+
+  public Collection<QueryShapeUsage> getUsages() {
+    return new ArrayList<>(usages.values());
+  }
+
+  @Override
+  public void destroy() {
+    explainExecutor.shutdownNow();
+  }
+
+  private void explain(QueryShapeUsage usage, Document explainCommand) {
+    try {
+      QueryPlan plan = queryPlanExplainer.explain(explainCommand);
+      usage.setLastPlan(plan);
+
+      if (plan.isCollectionScan() || plan.isInMemorySort())
+        log.warn("Query shape [{}] is not fully index backed: {}", usage.getShape(), plan);
+    } catch (Exception e) {
+      log.warn("Unable to explain the query shape [{}]", usage.getShape(), e);
+    }
+  }
+}
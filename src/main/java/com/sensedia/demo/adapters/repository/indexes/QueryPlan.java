@@ -0,0 +1,49 @@
+package com.sensedia.demo.adapters.repository.indexes;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.List;
+
+public class QueryPlan {
+
+  private static final String COLLECTION_SCAN_STAGE = "COLLSCAN";
+  private static final String SORT_STAGE = "SORT";
+
+  private final List<String> stages;
+  private final List<String> indexNames;
+  private final Object winningPlan;
+
+  public QueryPlan(List<String> stages, List<String> indexNames, Object winningPlan) {
+    this.stages = stages;
+    this.indexNames = indexNames;
+    this.winningPlan = winningPlan;
+  }
+
+  public List<String> getStages() {
+    return stages;
+  }
+
+  public List<String> getIndexNames() {
+    return indexNames;
+  }
+
+  public Object getWinningPlan() {
+    return winningPlan;
+  }
+
+  public boolean isCollectionScan() {
+    return stages.contains(COLLECTION_SCAN_STAGE);
+  }
+
+  public boolean isInMemorySort() {
+    return stages.contains(SORT_STAGE);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("stages", stages)
+        .append("indexNames", indexNames)
+        .toString();
+  }
+}
@@ -0,0 +1,72 @@
+package com.sensedia.demo.adapters.repository.indexes;
+
+import com.sensedia.demo.domains.User;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class QueryPlanExplainer {
+
+  private final MongoTemplate mongoTemplate;
+  private final QueryMapper queryMapper;
+  private final MongoPersistentEntity<?> userEntity;
+
+  public QueryPlanExplainer(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+    this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+    this.userEntity =
+        mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(User.class);
+  }
+
+  public Document toExplainCommand(Query query) {
+    Document find =
+        new Document("find", mongoTemplate.getCollectionName(User.class))
+            .append("filter", queryMapper.getMappedObject(query.getQueryObject(), userEntity))
+            .append("sort", queryMapper.getMappedSort(query.getSortObject(), userEntity));
+
+    if (query.getSkip() > 0) find.append("skip", query.getSkip());
+    if (query.getLimit() > 0) find.append("limit", query.getLimit());
+
+    return new Document("explain", find).append("verbosity", "queryPlanner");
+  }
+
+  public QueryPlan explain(Document explainCommand) {
+    Document result = mongoTemplate.executeCommand(explainCommand);
+    Document queryPlanner = result.get("queryPlanner", Document.class);
+    Document winningPlan =
+        queryPlanner == null ? null : queryPlanner.get("winningPlan", Document.class);
+
+    List<String> stages = new ArrayList<>();
+    List<String> indexNames = new ArrayList<>();
+
+    collectStages(winningPlan, stages, indexNames);
+
+    return new QueryPlan(stages, indexNames, winningPlan);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void collectStages(Document plan, List<String> stages, List<String> indexNames) {
+    if (plan == null) return;
+
+    if (plan.containsKey("stage")) stages.add(plan.getString("stage"));
+    if (plan.containsKey("indexName")) indexNames.add(plan.getString("indexName"));
+
+    collectStages(plan.get("inputStage", Document.class), stages, indexNames);
+
+    Object inputStages = plan.get("inputStages");
+
+    if (inputStages instanceof List) {
+      for (Object inputStage : (List<Object>) inputStages) {
+        if (inputStage instanceof Document)
+          collectStages((Document) inputStage, stages, indexNames);
+      }
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.sensedia.demo.adapters.repository.indexes;
+
+import com.sensedia.demo.domains.search.UserSearch;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class QueryShape {
+
+  private QueryShape() {}
+
+  public static String of(UserSearch userSearch) {
+    return "filters=["
+        + filtersOf(userSearch)
+        + "] sort="
+        + userSearch.getSort().getFieldName()
+        + (userSearch.getCursor() != null ? " cursor" : "");
+  }
+
+  public static String filtersOf(UserSearch userSearch) {
+    List<String> filters = new ArrayList<>();
+
+    if (StringUtils.isNotBlank(userSearch.getName())) filters.add("name");
+    if (StringUtils.isNotBlank(userSearch.getEmail())) filters.add("email");
+    if (userSearch.getStatus() != null) filters.add("status");
+    if (userSearch.getCreatedAtStart() != null || userSearch.getCreatedAtEnd() != null)
+      filters.add("createdAt");
+
+    return String.join(",", filters);
+  }
+}
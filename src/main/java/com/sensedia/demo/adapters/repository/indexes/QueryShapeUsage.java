@@ -0,0 +1,51 @@
+package com.sensedia.demo.adapters.repository.indexes;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+public class QueryShapeUsage {
+
+  private final String shape;
+  private final LongAdder executions = new LongAdder();
+  private volatile QueryPlan lastPlan;
+  private final AtomicReference<Instant> lastExplainedAt = new AtomicReference<>();
+
+  public QueryShapeUsage(String shape) {
+    this.shape = shape;
+  }
+
+  public String getShape() {
+    return shape;
+  }
+
+  public long getExecutions() {
+    return executions.sum();
+  }
+
+  public QueryPlan getLastPlan() {
+    return lastPlan;
+  }
+
+  public Instant getLastExplainedAt() {
+    return lastExplainedAt.get();
+  }
+
+  void increment() {
+    executions.increment();
+  }
+
+  void setLastPlan(QueryPlan lastPlan) {
+    this.lastPlan = lastPlan;
+  }
+
+  boolean claimExplain(Duration explainInterval) {
+    Instant now = Instant.now();
+    Instant explainedAt = lastExplainedAt.get();
+
+    if (explainedAt != null && !explainedAt.plus(explainInterval).isBefore(now)) return false;
+
+    return lastExplainedAt.compareAndSet(explainedAt, now);
+  }
+}
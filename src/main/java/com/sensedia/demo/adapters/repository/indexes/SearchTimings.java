@@ -0,0 +1,34 @@
+package com.sensedia.demo.adapters.repository.indexes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class SearchTimings {
+
+  private final long start = System.nanoTime();
+  private final Map<String, Long> phases = new ConcurrentSkipListMap<>();
+
+  public <T> T time(String phase, Supplier<T> call) {
+    long phaseStart = System.nanoTime();
+
+    try {
+      return call.get();
+    } finally {
+      phases.put(phase, System.nanoTime() - phaseStart);
+    }
+  }
+
+  public Duration getTotal() {
+    return Duration.ofNanos(System.nanoTime() - start);
+  }
+
+  @Override
+  public String toString() {
+    return phases.entrySet().stream()
+        .map(phase -> phase.getKey() + "=" + Duration.ofNanos(phase.getValue()).toMillis() + "ms")
+        .collect(Collectors.joining(" "));
+  }
+}
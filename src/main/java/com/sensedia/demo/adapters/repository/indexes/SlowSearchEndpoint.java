@@ -0,0 +1,49 @@
+package com.sensedia.demo.adapters.repository.indexes;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@Endpoint(id = "userslowsearches")
+public class SlowSearchEndpoint {
+
+  private final SlowSearchTracker slowSearchTracker;
+
+  public SlowSearchEndpoint(SlowSearchTracker slowSearchTracker) {
+    this.slowSearchTracker = slowSearchTracker;
+  }
+
+  @ReadOperation
+  public List<Map<String, Object>> slowSearches() {
+    return slowSearchTracker.getTopShapes().stream()
+        .map(this::toShape)
+        .collect(Collectors.toList());
+  }
+
+  private Map<String, Object> toShape(SlowSearchShape slowShape) {
+    Map<String, Object> shape = new LinkedHashMap<>();
+    shape.put("shape", slowShape.getShape());
+    shape.put("occurrences", slowShape.getOccurrences());
+    shape.put("failures", slowShape.getFailures());
+    shape.put("totalMs", slowShape.getTotal().toMillis());
+    shape.put("maximumMs", slowShape.getMaximum().toMillis());
+    shape.put("lastSeenAt", slowShape.getLastSeenAt());
+    shape.put("lastTimings", slowShape.getLastTimings());
+
+    QueryPlan plan = slowShape.getLastPlan();
+
+    if (plan != null) {
+      shape.put("indexes", plan.getIndexNames());
+      shape.put("stages", plan.getStages());
+      shape.put("winningPlan", plan.getWinningPlan());
+    }
+
+    return shape;
+  }
+}
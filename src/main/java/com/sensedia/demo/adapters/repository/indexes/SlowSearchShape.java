@@ -0,0 +1,121 @@
+package com.sensedia.demo.adapters.repository.indexes;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class SlowSearchShape {
+
+  private static final int WINDOW_BUCKETS = 15;
+
+  private final String shape;
+  private final long bucketNanos;
+  private final long[] bucketEpochs = new long[WINDOW_BUCKETS];
+  private final long[] bucketOccurrences = new long[WINDOW_BUCKETS];
+  private final long[] bucketFailures = new long[WINDOW_BUCKETS];
+  private final long[] bucketTotalNanos = new long[WINDOW_BUCKETS];
+  private final long[] bucketMaximumNanos = new long[WINDOW_BUCKETS];
+  private volatile Instant lastSeenAt;
+  private volatile String lastTimings;
+  private volatile QueryPlan lastPlan;
+
+  public SlowSearchShape(String shape, Duration window) {
+    this.shape = shape;
+    this.bucketNanos = Math.max(1, window.toNanos() / WINDOW_BUCKETS);
+    this.lastSeenAt = Instant.now();
+  }
+
+  public String getShape() {
+    return shape;
+  }
+
+  public synchronized long getOccurrences() {
+    long currentEpoch = currentEpoch();
+    long occurrences = 0;
+
+    for (int bucket = 0; bucket < WINDOW_BUCKETS; bucket++) {
+      if (isLive(bucket, currentEpoch)) occurrences += bucketOccurrences[bucket];
+    }
+
+    return occurrences;
+  }
+
+  public synchronized long getFailures() {
+    long currentEpoch = currentEpoch();
+    long failures = 0;
+
+    for (int bucket = 0; bucket < WINDOW_BUCKETS; bucket++) {
+      if (isLive(bucket, currentEpoch)) failures += bucketFailures[bucket];
+    }
+
+    return failures;
+  }
+
+  public synchronized Duration getTotal() {
+    long currentEpoch = currentEpoch();
+    long totalNanos = 0;
+
+    for (int bucket = 0; bucket < WINDOW_BUCKETS; bucket++) {
+      if (isLive(bucket, currentEpoch)) totalNanos += bucketTotalNanos[bucket];
+    }
+
+    return Duration.ofNanos(totalNanos);
+  }
+
+  public synchronized Duration getMaximum() {
+    long currentEpoch = currentEpoch();
+    long maximumNanos = 0;
+
+    for (int bucket = 0; bucket < WINDOW_BUCKETS; bucket++) {
+      if (isLive(bucket, currentEpoch)) {
+        maximumNanos = Math.max(maximumNanos, bucketMaximumNanos[bucket]);
+      }
+    }
+
+    return Duration.ofNanos(maximumNanos);
+  }
+
+  public Instant getLastSeenAt() {
+    return lastSeenAt;
+  }
+
+  public String getLastTimings() {
+    return lastTimings;
+  }
+
+  public QueryPlan getLastPlan() {
+    return lastPlan;
+  }
+
+  synchronized void record(Duration elapsed, SearchTimings timings, boolean failed) {
+    long epoch = currentEpoch();
+    int bucket = (int) Math.floorMod(epoch, WINDOW_BUCKETS);
+
+    if (bucketEpochs[bucket] != epoch) {
+      bucketEpochs[bucket] = epoch;
+      bucketOccurrences[bucket] = 0;
+      bucketFailures[bucket] = 0;
+      bucketTotalNanos[bucket] = 0;
+      bucketMaximumNanos[bucket] = 0;
+    }
+
+    bucketOccurrences[bucket]++;
+    if (failed) bucketFailures[bucket]++;
+    bucketTotalNanos[bucket] += elapsed.toNanos();
+    bucketMaximumNanos[bucket] = Math.max(bucketMaximumNanos[bucket], elapsed.toNanos());
+
+    lastSeenAt = Instant.now();
+    lastTimings = timings.toString();
+  }
+
+  void setLastPlan(QueryPlan lastPlan) {
+    this.lastPlan = lastPlan;
+  }
+
+  private boolean isLive(int bucket, long currentEpoch) {
+    return currentEpoch - bucketEpochs[bucket] < WINDOW_BUCKETS;
+  }
+
+  private long currentEpoch() {
+    return Math.floorDiv(System.nanoTime(), bucketNanos);
+  }
+}
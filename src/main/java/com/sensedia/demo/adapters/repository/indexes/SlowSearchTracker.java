@@ -0,0 +1,125 @@
+package com.sensedia.demo.adapters.repository.indexes;
+
+import com.sensedia.demo.domains.search.UserSearch;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Component
+public class SlowSearchTracker implements DisposableBean {
+  private static final Logger log = LoggerFactory.getLogger(SlowSearchTracker.class);
+
+  private static final int EXPLAIN_QUEUE_CAPACITY = 16;
+
+  private final QueryPlanExplainer queryPlanExplainer;
+  private final Map<String, SlowSearchShape> shapes = new ConcurrentHashMap<>();
+  private final ExecutorService explainExecutor =
+      new ThreadPoolExecutor(
+          1,
+          1,
+          0,
+          TimeUnit.MILLISECONDS,
+          new LinkedBlockingQueue<>(EXPLAIN_QUEUE_CAPACITY),
+          new CustomizableThreadFactory("user-slow-explain-"),
+          new ThreadPoolExecutor.DiscardPolicy());
+
+  @Value("${app.repository.slowSearch.enabled}")
+  private boolean enabled;
+
+  @Value("${app.repository.slowSearch.threshold}")
+  private Duration threshold;
+
+  @Value("${app.repository.slowSearch.explainSampleRate}")
+  private double explainSampleRate;
+
+  @Value("${app.repository.slowSearch.topShapes}")
+  private int topShapes;
+
+  @Value("${app.repository.slowSearch.window}")
+  private Duration window;
+
+  public SlowSearchTracker(QueryPlanExplainer queryPlanExplainer) {
+    this.queryPlanExplainer = queryPlanExplainer;
+  }
+
+  public void record(
+      UserSearch userSearch, Query query, int limit, SearchTimings timings, Throwable failure) {
+    if (!enabled) return;
+
+    Duration elapsed = timings.getTotal();
+
+    if (elapsed.compareTo(threshold) < 0) return;
+
+    String shape = QueryShape.of(userSearch);
+    SlowSearchShape slowShape =
+        shapes.computeIfAbsent(shape, key -> new SlowSearchShape(key, window));
+    slowShape.record(elapsed, timings, failure != null);
+
+    log.warn(
+        "Slow search [{}] sortType={} limit={} page={} took {}ms ({}){}",
+        shape,
+        userSearch.getSortType(),
+        limit,
+        userSearch.getPage(),
+        elapsed.toMillis(),
+        timings,
+        failure != null ? " and failed: " + failure : "");
+
+    if (ThreadLocalRandom.current().nextDouble() >= explainSampleRate) return;
+
+    Document explainCommand = queryPlanExplainer.toExplainCommand(query);
+
+    explainExecutor.execute(() -> explain(slowShape, explainCommand));
+  }
+
+  public List<SlowSearchShape> getTopShapes() {
+    Instant windowStart = Instant.now().minus(window);
+
+    shapes.values().removeIf(shape -> shape.getLastSeenAt().isBefore(windowStart));
+
+    return shapes.values().stream()
+        .filter(shape -> shape.getOccurrences() > 0)
+        .sorted(Comparator.comparing(SlowSearchShape::getTotal).reversed())
+        .limit(topShapes)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public void destroy() {
+    explainExecutor.shutdownNow();
+  }
+
+  private void explain(SlowSearchShape slowShape, Document explainCommand) {
+    try {
+      QueryPlan plan = queryPlanExplainer.explain(explainCommand);
+      slowShape.setLastPlan(plan);
+
+      log.warn(
+          "Slow search [{}] winning plan: {}",
+          slowShape.getShape(),
+          plan.getWinningPlan() instanceof Document
+              ? ((Document) plan.getWinningPlan()).toJson()
+              : plan);
+    } catch (Exception e) {
+      log.warn("Unable to explain the slow search [{}]", slowShape.getShape(), e);
+    }
+  }
+}
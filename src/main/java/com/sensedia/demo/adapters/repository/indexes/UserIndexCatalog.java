@@ -0,0 +1,64 @@
+package com.sensedia.demo.adapters.repository.indexes;
+
+import com.sensedia.demo.domains.search.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.sensedia.demo.adapters.repository.UserSearchFields.*;
+import static org.springframework.data.domain.Sort.Direction.ASC;
+
+@Component
+public class UserIndexCatalog {
+
+  static final String ID_FIELD = "_id";
+  static final String STATUS_FIELD = "status";
+  static final String CREATED_AT_FIELD = "createdAt";
+
+  private final List<Index> indexes;
+
+  public UserIndexCatalog() {
+    List<Index> catalog = new ArrayList<>();
+
+    for (Sort sort : Sort.values()) {
+      catalog.add(sortIndex(sort));
+
+      if (sort != Sort.STATUS) catalog.add(statusSortIndex(sort));
+    }
+
+    catalog.add(new Index(NAME_NORMALIZED, ASC));
+    catalog.add(new Index(NAME_TOKENS, ASC));
+    catalog.add(new Index(EMAIL_NORMALIZED, ASC));
+    catalog.add(new Index(EMAIL_TOKENS, ASC));
+
+    this.indexes = Collections.unmodifiableList(catalog);
+  }
+
+  public List<Index> getIndexes() {
+    return indexes;
+  }
+
+  private Index sortIndex(Sort sort) {
+    return withRange(
+        new Index(sort.getFieldName(), ASC)
+            .on(ID_FIELD, ASC)
+            .named("search_" + sort.getFieldName()),
+        sort);
+  }
+
+  private Index statusSortIndex(Sort sort) {
+    return withRange(
+        new Index(STATUS_FIELD, ASC)
+            .on(sort.getFieldName(), ASC)
+            .on(ID_FIELD, ASC)
+            .named("search_status_" + sort.getFieldName()),
+        sort);
+  }
+
+  private Index withRange(Index index, Sort sort) {
+    return sort == Sort.CREATED_AT ? index : index.on(CREATED_AT_FIELD, ASC);
+  }
+}
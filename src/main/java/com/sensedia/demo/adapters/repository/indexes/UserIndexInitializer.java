@@ -0,0 +1,151 @@
+package com.sensedia.demo.adapters.repository.indexes;
+
+import com.sensedia.demo.adapters.repository.UserSearchFields;
+import com.sensedia.demo.domains.User;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.sensedia.demo.adapters.repository.UserSearchFields.NAME_TOKENS;
+
+@Component
+public class UserIndexInitializer {
+  private static final Logger log = LoggerFactory.getLogger(UserIndexInitializer.class);
+
+  private static final String ID_INDEX_NAME = "_id_";
+  private static final String NAME_KEY = "name";
+  private static final String KEY_KEY = "key";
+  private static final String ID_FIELD = "_id";
+  private static final String NAME_FIELD = "name";
+  private static final String EMAIL_FIELD = "email";
+
+  private final MongoTemplate mongoTemplate;
+  private final UserIndexCatalog userIndexCatalog;
+
+  @Value("${app.repository.textSearchBackfill}")
+  private boolean backfill;
+
+  @Value("${app.repository.dropConflictingIndexes}")
+  private boolean dropConflictingIndexes;
+
+  public UserIndexInitializer(MongoTemplate mongoTemplate, UserIndexCatalog userIndexCatalog) {
+    this.mongoTemplate = mongoTemplate;
+    this.userIndexCatalog = userIndexCatalog;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    IndexOperations indexOperations = mongoTemplate.indexOps(User.class);
+
+    Set<Index> conflicts = resolveConflictingIndexes(indexOperations);
+    int ensured = 0;
+
+    for (Index index : userIndexCatalog.getIndexes()) {
+      if (conflicts.contains(index)) continue;
+
+      indexOperations.ensureIndex(index);
+      ensured++;
+    }
+
+    log.info("Ensured {} indexes for the users collection", ensured);
+
+    if (backfill) backfillSearchFields();
+  }
+
+  private Set<Index> resolveConflictingIndexes(IndexOperations indexOperations) {
+    String collection = mongoTemplate.getCollectionName(User.class);
+
+    List<Document> existingIndexes =
+        mongoTemplate.getCollection(collection).listIndexes().into(new ArrayList<>());
+    Set<Index> conflicts = new HashSet<>();
+
+    for (Document existing : existingIndexes) {
+      String name = existing.getString(NAME_KEY);
+      List<String> keys = new ArrayList<>(existing.get(KEY_KEY, Document.class).keySet());
+
+      if (ID_INDEX_NAME.equals(name)) continue;
+
+      for (Index index : userIndexCatalog.getIndexes()) {
+        boolean sameName = name.equals(nameOf(index));
+        boolean sameKeys = keys.equals(new ArrayList<>(index.getIndexKeys().keySet()));
+
+        if (sameName == sameKeys) continue;
+
+        if (dropConflictingIndexes) {
+          log.info("Dropping the index [{}] {} that conflicts with the catalogue", name, keys);
+          indexOperations.dropIndex(name);
+          break;
+        }
+
+        log.warn(
+            "The index [{}] {} conflicts with the catalogue index [{}] {}, skipping it. Drop it "
+                + "manually or enable app.repository.dropConflictingIndexes",
+            name,
+            keys,
+            nameOf(index),
+            index.getIndexKeys().keySet());
+        conflicts.add(index);
+      }
+    }
+
+    return conflicts;
+  }
+
+  private String nameOf(Index index) {
+    Object name = index.getIndexOptions().get(NAME_KEY);
+
+    if (name != null) return name.toString();
+
+    return index.getIndexKeys().entrySet().stream()
+        .map(key -> key.getKey() + "_" + key.getValue())
+        .collect(Collectors.joining("_"));
+  }
+
+  private void backfillSearchFields() {
+    Query query = new Query(Criteria.where(NAME_TOKENS).exists(false));
+    int total = 0;
+
+    try (CloseableIterator<User> users = mongoTemplate.stream(query, User.class)) {
+      while (users.hasNext()) {
+        if (backfill(users.next())) total++;
+      }
+    }
+
+    if (total > 0) log.info("Search fields backfilled for {} users", total);
+  }
+
+  private boolean backfill(User user) {
+    Query unchanged =
+        new Query(
+            Criteria.where(ID_FIELD)
+                .is(user.getId())
+                .and(NAME_FIELD)
+                .is(user.getName())
+                .and(EMAIL_FIELD)
+                .is(user.getEmail())
+                .and(NAME_TOKENS)
+                .exists(false));
+
+    Update update = new Update();
+    UserSearchFields.of(user).forEach(update::set);
+
+    return mongoTemplate.updateFirst(unchanged, update, User.class).getModifiedCount() > 0;
+  }
+}
@@ -0,0 +1,124 @@
+package com.sensedia.demo.adapters.repository.outbox;
+
+import com.sensedia.demo.domains.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(value = "app.outbox.enabled", havingValue = "true")
+public class UserOutbox {
+
+  private static final Logger log = LoggerFactory.getLogger(UserOutbox.class);
+
+  private static final String ID_FIELD = "_id";
+  private static final String CREATED_AT_FIELD = "createdAt";
+  private static final String CLAIMED_BY_FIELD = "claimedBy";
+  private static final String LEASE_UNTIL_FIELD = "leaseUntil";
+
+  private final MongoTemplate mongoTemplate;
+  private final boolean transactional;
+
+  public UserOutbox(
+      MongoTemplate mongoTemplate, @Value("${app.outbox.transactional}") boolean transactional) {
+    this.mongoTemplate = mongoTemplate;
+    this.transactional = transactional;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    if (!transactional) {
+      log.warn(
+          "User outbox is not transactional, a failure right after a user write loses its event");
+    }
+
+    log.info("User batch writes append their outbox events after the bulk write, not atomically");
+
+    if (!mongoTemplate.collectionExists(UserOutboxEvent.class)) {
+      mongoTemplate.createCollection(UserOutboxEvent.class);
+    }
+
+    mongoTemplate
+        .indexOps(UserOutboxEvent.class)
+        .ensureIndex(
+            new Index()
+                .on(CREATED_AT_FIELD, Sort.Direction.ASC)
+                .on(ID_FIELD, Sort.Direction.ASC)
+                .on(LEASE_UNTIL_FIELD, Sort.Direction.ASC)
+                .named("outbox_createdAt_id_leaseUntil"));
+  }
+
+  public void append(UserOutboxEvent.Type type, List<User> users) {
+    if (users.isEmpty()) return;
+
+    Instant now = Instant.now();
+
+    mongoTemplate.insert(
+        users.stream()
+            .map(user -> new UserOutboxEvent(type, user, now))
+            .collect(Collectors.toList()),
+        UserOutboxEvent.class);
+  }
+
+  public List<UserOutboxEvent> claim(String owner, int limit, Duration lease) {
+    Instant now = Instant.now();
+    Instant leaseUntil = now.plus(lease);
+    Sort order = Sort.by(Sort.Direction.ASC, CREATED_AT_FIELD, ID_FIELD);
+
+    Query candidates =
+        new Query(Criteria.where(LEASE_UNTIL_FIELD).not().gte(now)).with(order).limit(limit);
+    candidates.fields().include(ID_FIELD);
+
+    List<String> ids =
+        mongoTemplate.find(candidates, UserOutboxEvent.class).stream()
+            .map(UserOutboxEvent::getId)
+            .collect(Collectors.toList());
+
+    if (ids.isEmpty()) return Collections.emptyList();
+
+    mongoTemplate.updateMulti(
+        new Query(Criteria.where(ID_FIELD).in(ids).and(LEASE_UNTIL_FIELD).not().gte(now)),
+        new Update().set(CLAIMED_BY_FIELD, owner).set(LEASE_UNTIL_FIELD, leaseUntil),
+        UserOutboxEvent.class);
+
+    return mongoTemplate.find(
+        new Query(
+                Criteria.where(ID_FIELD)
+                    .in(ids)
+                    .and(CLAIMED_BY_FIELD)
+                    .is(owner)
+                    .and(LEASE_UNTIL_FIELD)
+                    .is(leaseUntil))
+            .with(order),
+        UserOutboxEvent.class);
+  }
+
+  public void remove(String owner, List<String> ids) {
+    mongoTemplate.remove(
+        new Query(Criteria.where(ID_FIELD).in(ids).and(CLAIMED_BY_FIELD).is(owner)),
+        UserOutboxEvent.class);
+  }
+
+  public void release(String owner, List<String> ids) {
+    mongoTemplate.updateMulti(
+        new Query(Criteria.where(ID_FIELD).in(ids).and(CLAIMED_BY_FIELD).is(owner)),
+        new Update().unset(CLAIMED_BY_FIELD).unset(LEASE_UNTIL_FIELD),
+        UserOutboxEvent.class);
+  }
+}
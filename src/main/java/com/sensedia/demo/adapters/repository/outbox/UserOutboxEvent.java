@@ -0,0 +1,100 @@
+package com.sensedia.demo.adapters.repository.outbox;
+
+import com.sensedia.demo.domains.User;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document(collection = UserOutboxEvent.COLLECTION)
+public class UserOutboxEvent {
+
+  public static final String COLLECTION = "user_outbox";
+
+  public enum Type {
+    CREATION,
+    UPDATE,
+    DELETION
+  }
+
+  @Id private String id;
+
+  private Type type;
+
+  private User user;
+
+  private Instant createdAt;
+
+  private String claimedBy;
+
+  private Instant leaseUntil;
+
+  public UserOutboxEvent() {}
+
+  public UserOutboxEvent(Type type, User user, Instant createdAt) {
+    this.type = type;
+    this.user = user;
+    this.createdAt = createdAt;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  public void setType(Type type) {
+    this.type = type;
+  }
+
+  public User getUser() {
+    return user;
+  }
+
+  public void setUser(User user) {
+    this.user = user;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public String getClaimedBy() {
+    return claimedBy;
+  }
+
+  public void setClaimedBy(String claimedBy) {
+    this.claimedBy = claimedBy;
+  }
+
+  public Instant getLeaseUntil() {
+    return leaseUntil;
+  }
+
+  public void setLeaseUntil(Instant leaseUntil) {
+    this.leaseUntil = leaseUntil;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("id", id)
+        .append("type", type)
+        .append("user", user)
+        .append("createdAt", createdAt)
+        .append("claimedBy", claimedBy)
+        .append("leaseUntil", leaseUntil)
+        .toString();
+  }
+}
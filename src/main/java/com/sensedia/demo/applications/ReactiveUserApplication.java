@@ -0,0 +1,114 @@
+package com.sensedia.demo.applications;
+
+import com.sensedia.commons.errors.exceptions.NotFoundException;
+import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.UserStatus;
+import com.sensedia.demo.domains.search.UserSearch;
+import com.sensedia.demo.domains.search.UserSearchResponse;
+import com.sensedia.demo.ports.AmqpPort;
+import com.sensedia.demo.ports.ReactiveApplicationPort;
+import com.sensedia.demo.ports.ReactiveRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+@Service
+@Validated
+@Profile("reactive")
+public class ReactiveUserApplication implements ReactiveApplicationPort {
+
+  private static final Logger log = LoggerFactory.getLogger(ReactiveUserApplication.class);
+
+  private static final String USER_NOT_FOUND_MESSAGE = "User not found";
+
+  private final AmqpPort amqpPort;
+  private final ReactiveRepositoryPort repository;
+  private final UserCache userCache;
+
+  @Autowired
+  public ReactiveUserApplication(
+      AmqpPort amqpPort, ReactiveRepositoryPort repository, UserCache userCache) {
+    this.amqpPort = amqpPort;
+    this.repository = repository;
+    this.userCache = userCache;
+  }
+
+  @Override
+  public Mono<User> create(@Valid @NotNull User user) {
+    user.setCreatedAt(Instant.now());
+    user.setStatus(UserStatus.ACTIVE);
+
+    return repository
+        .save(user)
+        .doOnNext(created -> userCache.invalidate(created.getId()))
+        .flatMap(created -> notify(created, amqpPort::notifyUserCreation, "creation"));
+  }
+
+  @Override
+  public Mono<Void> delete(@NotNull String id) {
+    return repository
+        .findAndDelete(id)
+        .switchIfEmpty(Mono.error(() -> new NotFoundException(USER_NOT_FOUND_MESSAGE)))
+        .doOnNext(user -> userCache.invalidate(id))
+        .flatMap(user -> notify(user, amqpPort::notifyUserDeletion, "deletion"))
+        .then();
+  }
+
+  @Override
+  public Mono<User> update(@Valid @NotNull User userForUpdate, @NotNull String id) {
+    userForUpdate.setUpdatedAt(Instant.now());
+
+    return repository
+        .findAndUpdate(id, userForUpdate)
+        .switchIfEmpty(Mono.error(() -> new NotFoundException(USER_NOT_FOUND_MESSAGE)))
+        .doOnNext(user -> userCache.invalidate(id))
+        .flatMap(user -> notify(user, amqpPort::notifyUserUpdate, "update"));
+  }
+
+  @Override
+  public Mono<User> findById(@NotNull String id) {
+    return Mono.justOrEmpty(userCache.get(id))
+        .switchIfEmpty(
+            Mono.defer(
+                () -> {
+                  long generation = userCache.generation(id);
+
+                  return repository
+                      .findById(id)
+                      .switchIfEmpty(
+                          Mono.error(() -> new NotFoundException(USER_NOT_FOUND_MESSAGE)))
+                      .doOnNext(user -> userCache.put(user, generation));
+                }));
+  }
+
+  @Override
+  public Mono<UserSearchResponse> findAll(@Valid @NotNull UserSearch userSearch) {
+    return repository.findAll(userSearch);
+  }
+
+  @Override
+  public Flux<User> export(@Valid @NotNull UserSearch userSearch) {
+    return repository.stream(userSearch);
+  }
+
+  private Mono<User> notify(
+      User user, Function<User, CompletableFuture<Void>> notification, String event) {
+    return Mono.defer(() -> Mono.fromFuture(notification.apply(user)))
+        .subscribeOn(Schedulers.boundedElastic())
+        .doOnError(e -> log.error("Failed to publish the user {} event", event, e))
+        .onErrorResume(e -> Mono.empty())
+        .thenReturn(user);
+  }
+}
@@ -1,34 +1,67 @@
 package com.sensedia.demo.applications;
 
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
 import com.sensedia.commons.errors.exceptions.NotFoundException;
+import com.sensedia.commons.errors.exceptions.PreConditionException;
+import com.sensedia.demo.adapters.repository.BulkUserResult;
 import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.UserBatchItem;
 import com.sensedia.demo.domains.UserStatus;
 import com.sensedia.demo.domains.search.UserSearch;
 import com.sensedia.demo.domains.search.UserSearchResponse;
 import com.sensedia.demo.ports.AmqpPort;
 import com.sensedia.demo.ports.ApplicationPort;
 import com.sensedia.demo.ports.RepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @Transactional
 @Validated
 public class UserApplication implements ApplicationPort {
 
+  private static final Logger log = LoggerFactory.getLogger(UserApplication.class);
+
+  private static final String USER_NOT_FOUND_MESSAGE = "User not found";
+
   private final AmqpPort amqpPort;
   private final RepositoryPort repository;
+  private final UserCache userCache;
+  private final UserSearchCache userSearchCache;
+
+  @Value("${app.batch.maximumSize}")
+  private int batchMaximumSize;
 
   @Autowired
-  public UserApplication(AmqpPort amqpPort, RepositoryPort repository) {
+  public UserApplication(
+      AmqpPort amqpPort,
+      RepositoryPort repository,
+      UserCache userCache,
+      UserSearchCache userSearchCache) {
     this.amqpPort = amqpPort;
     this.repository = repository;
+    this.userCache = userCache;
+    this.userSearchCache = userSearchCache;
   }
 
   @Override
@@ -37,48 +70,231 @@ public class UserApplication implements ApplicationPort {
     user.setStatus(UserStatus.ACTIVE);
 
     repository.save(user);
-    amqpPort.notifyUserCreation(user);
+    userCache.invalidate(user.getId());
+    userSearchCache.invalidateAll();
+    logPublishFailure(amqpPort.notifyUserCreation(user), "creation");
 
     return user;
   }
 
   @Override
   public void delete(@NotNull String id) {
-    User user = findById(id);
+    User user =
+        repository
+            .findAndDelete(id)
+            .orElseThrow(() -> new NotFoundException(USER_NOT_FOUND_MESSAGE));
 
-    repository.delete(user);
-    amqpPort.notifyUserDeletion(user);
+    userCache.invalidate(id);
+    userSearchCache.invalidateAll();
+    logPublishFailure(amqpPort.notifyUserDeletion(user), "deletion");
   }
 
   @Override
   public User update(@Valid @NotNull User userForUpdate, @NotNull String id) {
-    User user = findById(id);
-
-    user.setName(userForUpdate.getName());
-    user.setEmail(userForUpdate.getEmail());
-
-    if (userForUpdate.getStatus() != null) user.setStatus(userForUpdate.getStatus());
+    userForUpdate.setUpdatedAt(Instant.now());
 
-    user.setUpdatedAt(Instant.now());
+    User user =
+        repository
+            .findAndUpdate(id, userForUpdate)
+            .orElseThrow(() -> new NotFoundException(USER_NOT_FOUND_MESSAGE));
 
-    repository.save(user);
-    amqpPort.notifyUserUpdate(user);
+    userCache.invalidate(id);
+    userSearchCache.invalidateAll();
+    logPublishFailure(amqpPort.notifyUserUpdate(user), "update");
 
     return user;
   }
 
   @Override
   public User findById(@NotNull String id) {
+    return userCache.get(id, () -> findInRepository(id));
+  }
+
+  @Override
+  public UserSearchResponse findAll(@Valid @NotNull UserSearch userSearch) {
+    return userSearchCache.get(userSearch, () -> repository.findAll(userSearch));
+  }
+
+  @Override
+  public String findSearchVersion() {
+    return userSearchCache.version();
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void export(@Valid @NotNull UserSearch userSearch, @NotNull Consumer<User> consumer) {
+    repository.stream(userSearch, consumer);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public List<UserBatchItem> createBatch(@NotNull List<User> users) {
+    validateBatchSize(users);
+
+    Instant now = Instant.now();
+
+    users.forEach(
+        user -> {
+          user.setCreatedAt(now);
+          user.setStatus(UserStatus.ACTIVE);
+        });
+
+    List<Integer> indexes = IntStream.range(0, users.size()).boxed().collect(Collectors.toList());
+
+    List<UserBatchItem> items =
+        toBatchItems(users, indexes, repository.bulkInsert(users), new ArrayList<>());
+
+    List<User> created = successUsers(items);
+
+    created.forEach(user -> userCache.invalidate(user.getId()));
+    if (!created.isEmpty()) userSearchCache.invalidateAll();
+    logPublishFailure(amqpPort.notifyUserCreations(created), "creation");
+
+    return items;
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public List<UserBatchItem> updateBatch(@NotNull List<User> users) {
+    validateBatchSize(users);
+
+    Instant now = Instant.now();
+
+    users.forEach(user -> user.setUpdatedAt(now));
+
+    List<Integer> indexes = IntStream.range(0, users.size()).boxed().collect(Collectors.toList());
+
+    List<UserBatchItem> items =
+        toBatchItems(users, indexes, repository.bulkUpdate(users), new ArrayList<>());
+
+    Map<String, User> updatedUsers =
+        findExistingUsers(
+            successUsers(items).stream().map(User::getId).collect(Collectors.toList()));
+
+    items =
+        items.stream()
+            .map(item -> toUpdatedItem(item, updatedUsers))
+            .collect(Collectors.toList());
+
+    List<User> updated = successUsers(items);
+
+    updated.forEach(user -> userCache.invalidate(user.getId()));
+    if (!updated.isEmpty()) userSearchCache.invalidateAll();
+    logPublishFailure(amqpPort.notifyUserUpdates(updated), "update");
+
+    return items;
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public List<UserBatchItem> deleteBatch(@NotNull List<String> ids) {
+    validateBatchSize(ids);
+
+    Map<String, User> existingUsers = findExistingUsers(ids);
+
+    List<UserBatchItem> items = new ArrayList<>();
+    List<User> usersForDeletion = new ArrayList<>();
+    List<Integer> indexes = new ArrayList<>();
+
+    for (int index = 0; index < ids.size(); index++) {
+      User existingUser = existingUsers.get(ids.get(index));
+
+      if (existingUser == null) {
+        items.add(UserBatchItem.failure(index, userNotFound()));
+        continue;
+      }
+
+      usersForDeletion.add(existingUser);
+      indexes.add(index);
+    }
+
+    BulkUserResult result =
+        repository.bulkDelete(
+            usersForDeletion.stream().map(User::getId).collect(Collectors.toList()));
+
+    items = toBatchItems(usersForDeletion, indexes, result, items);
+
+    List<User> deleted = successUsers(items);
+
+    deleted.forEach(user -> userCache.invalidate(user.getId()));
+    if (!deleted.isEmpty()) userSearchCache.invalidateAll();
+    logPublishFailure(amqpPort.notifyUserDeletions(deleted), "deletion");
+
+    return items;
+  }
+
+  private void logPublishFailure(CompletableFuture<Void> notification, String event) {
+    notification.whenComplete(
+        (ignored, e) -> {
+          if (e != null) log.error("Failed to publish the user {} event", event, e);
+        });
+  }
+
+  private void validateBatchSize(List<?> batch) {
+    if (batch.size() > batchMaximumSize) {
+      throw new PreConditionException(
+          "The batch size is greater than the configured maximum size [" + batchMaximumSize + "]");
+    }
+  }
+
+  private Map<String, User> findExistingUsers(List<String> ids) {
+    Map<String, User> existingUsers = new HashMap<>();
+    repository.findAllById(ids).forEach(user -> existingUsers.put(user.getId(), user));
+    return existingUsers;
+  }
+
+  private List<UserBatchItem> toBatchItems(
+      List<User> users,
+      List<Integer> indexes,
+      BulkUserResult result,
+      List<UserBatchItem> items) {
+
+    for (int position = 0; position < users.size(); position++) {
+      int index = indexes.get(position);
+
+      if (result.getErrors().containsKey(position)) {
+        DefaultErrorResponse error =
+            new DefaultErrorResponse(
+                HttpStatus.INTERNAL_SERVER_ERROR, result.getErrors().get(position));
+        items.add(UserBatchItem.failure(index, error));
+      } else if (result.getMisses().contains(position)) {
+        items.add(UserBatchItem.failure(index, userNotFound()));
+      } else {
+        items.add(UserBatchItem.success(index, users.get(position)));
+      }
+    }
+
+    items.sort(Comparator.comparingInt(UserBatchItem::getIndex));
+    return items;
+  }
+
+  private UserBatchItem toUpdatedItem(UserBatchItem item, Map<String, User> updatedUsers) {
+    if (!item.isSuccess()) return item;
+
+    User user = updatedUsers.get(item.getUser().getId());
+
+    return user != null
+        ? UserBatchItem.success(item.getIndex(), user)
+        : UserBatchItem.failure(item.getIndex(), userNotFound());
+  }
+
+  private List<User> successUsers(List<UserBatchItem> items) {
+    return items.stream()
+        .filter(UserBatchItem::isSuccess)
+        .map(UserBatchItem::getUser)
+        .collect(Collectors.toList());
+  }
+
+  private DefaultErrorResponse userNotFound() {
+    return new DefaultErrorResponse(HttpStatus.NOT_FOUND, USER_NOT_FOUND_MESSAGE);
+  }
+
+  private User findInRepository(String id) {
     return repository
         .findById(id)
         .orElseGet(
             () -> {
-              throw new NotFoundException("User not found");
+              throw new NotFoundException(USER_NOT_FOUND_MESSAGE);
             });
   }
-
-  @Override
-  public UserSearchResponse findAll(@Valid @NotNull UserSearch userSearch) {
-    return repository.findAll(userSearch);
-  }
 }
@@ -0,0 +1,108 @@
+package com.sensedia.demo.applications;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sensedia.demo.domains.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+@Component
+public class UserCache {
+
+  private static final String CACHE_NAME = "users";
+  private static final int GENERATION_STRIPES = 1024;
+
+  private final Cache<String, User> cache;
+  private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+  private final boolean enabled;
+
+  public UserCache(
+      MeterRegistry meterRegistry,
+      @Value("${app.cache.users.enabled}") boolean enabled,
+      @Value("${app.cache.users.maximumSize}") long maximumSize,
+      @Value("${app.cache.users.expireAfterWrite}") Duration expireAfterWrite) {
+    this.enabled = enabled;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+
+    GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public Optional<User> get(String id) {
+    if (!enabled) return Optional.empty();
+    return Optional.ofNullable(cache.getIfPresent(id));
+  }
+
+  public User get(String id, Supplier<User> loader) {
+    Optional<User> cached = get(id);
+
+    if (cached.isPresent()) return cached.get();
+
+    long generation = generation(id);
+
+    User user = loader.get();
+    put(user, generation);
+
+    return user;
+  }
+
+  public long generation(String id) {
+    return generations.get(stripeOf(id));
+  }
+
+  public void put(User user, long generation) {
+    if (!enabled) return;
+
+    int stripe = stripeOf(user.getId());
+
+    cache
+        .asMap()
+        .compute(
+            user.getId(),
+            (id, current) -> generations.get(stripe) == generation ? user : current);
+  }
+
+  public void invalidate(String id) {
+    evict(id);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              evict(id);
+            }
+          });
+    }
+  }
+
+  public void invalidateAll() {
+    for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+      generations.incrementAndGet(stripe);
+    }
+
+    cache.invalidateAll();
+  }
+
+  private void evict(String id) {
+    generations.incrementAndGet(stripeOf(id));
+    cache.invalidate(id);
+  }
+
+  private int stripeOf(String id) {
+    return Math.floorMod(id.hashCode(), GENERATION_STRIPES);
+  }
+}
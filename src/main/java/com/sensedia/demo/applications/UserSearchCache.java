@@ -0,0 +1,108 @@
+package com.sensedia.demo.applications;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sensedia.demo.domains.search.UserSearch;
+import com.sensedia.demo.domains.search.UserSearchResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class UserSearchCache {
+
+  private static final String CACHE_NAME = "userSearches";
+
+  private final Cache<String, UserSearchResponse> cache;
+  private final AtomicLong changeVersion = new AtomicLong();
+  private final String instance = UUID.randomUUID().toString();
+  private final long versionPeriod;
+  private final boolean enabled;
+
+  public UserSearchCache(
+      MeterRegistry meterRegistry,
+      @Value("${app.cache.searches.enabled}") boolean enabled,
+      @Value("${app.cache.searches.maximumSize}") long maximumSize,
+      @Value("${app.cache.searches.expireAfterWrite}") Duration expireAfterWrite) {
+    this.enabled = enabled;
+    this.versionPeriod = Math.max(1, expireAfterWrite.toMillis());
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+
+    GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public UserSearchResponse get(UserSearch userSearch, Supplier<UserSearchResponse> search) {
+    UserSearchResponse cached = enabled ? cache.getIfPresent(keyOf(userSearch)) : null;
+
+    if (cached != null) return cached;
+
+    long version = changeVersion.get();
+    String collectionVersion = versionOf(version);
+
+    UserSearchResponse response = search.get();
+    response.setVersion(collectionVersion);
+
+    if (enabled && version == changeVersion.get()) cache.put(keyOf(userSearch), response);
+
+    return response;
+  }
+
+  public String version() {
+    return versionOf(changeVersion.get());
+  }
+
+  public void invalidateAll() {
+    changeVersion.incrementAndGet();
+    cache.invalidateAll();
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              changeVersion.incrementAndGet();
+              cache.invalidateAll();
+            }
+          });
+    }
+  }
+
+  private String keyOf(UserSearch userSearch) {
+    return new StringJoiner("|")
+        .add(Objects.toString(userSearch.getName(), ""))
+        .add(Objects.toString(userSearch.getEmail(), ""))
+        .add(Objects.toString(userSearch.getStatus(), ""))
+        .add(Objects.toString(userSearch.getCreatedAtStart(), ""))
+        .add(Objects.toString(userSearch.getCreatedAtEnd(), ""))
+        .add(Objects.toString(userSearch.getSort(), ""))
+        .add(Objects.toString(userSearch.getSortType(), ""))
+        .add(Objects.toString(userSearch.getPage(), ""))
+        .add(Objects.toString(userSearch.getLimit(), ""))
+        .add(userSearch.getCursor() != null ? userSearch.getCursor().encode() : "")
+        .add(Objects.toString(userSearch.getCountMode(), ""))
+        .toString();
+  }
+
+  private String versionOf(long version) {
+    return instance
+        + "-"
+        + Long.toHexString(version)
+        + "-"
+        + Long.toHexString(System.currentTimeMillis() / versionPeriod);
+  }
+}
@@ -0,0 +1,50 @@
+package com.sensedia.demo.domains;
+
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+public class UserBatchItem {
+
+  private final int index;
+  private final User user;
+  private final DefaultErrorResponse error;
+
+  private UserBatchItem(int index, User user, DefaultErrorResponse error) {
+    this.index = index;
+    this.user = user;
+    this.error = error;
+  }
+
+  public static UserBatchItem success(int index, User user) {
+    return new UserBatchItem(index, user, null);
+  }
+
+  public static UserBatchItem failure(int index, DefaultErrorResponse error) {
+    return new UserBatchItem(index, null, error);
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public User getUser() {
+    return user;
+  }
+
+  public DefaultErrorResponse getError() {
+    return error;
+  }
+
+  public boolean isSuccess() {
+    return error == null;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("index", index)
+        .append("user", user)
+        .append("error", error)
+        .toString();
+  }
+}
@@ -0,0 +1,24 @@
+package com.sensedia.demo.domains.search;
+
+import com.sensedia.commons.errors.exceptions.BadRequestException;
+import org.apache.commons.lang3.StringUtils;
+
+public enum CountMode {
+  EXACT,
+  CONCURRENT,
+  ESTIMATED,
+  NONE;
+
+  public static CountMode fromValue(String value) {
+    if (StringUtils.isBlank(value)) return null;
+
+    for (CountMode countMode : CountMode.values()) {
+      if (countMode.name().equalsIgnoreCase(value)) {
+        return countMode;
+      }
+    }
+
+    throw new BadRequestException(
+        "Invalid count [" + value + "], accepted values: [exact, concurrent, estimated, none]");
+  }
+}
@@ -0,0 +1,11 @@
+package com.sensedia.demo.domains.search;
+
+public enum TotalType {
+  EXACT,
+  ESTIMATED,
+  ABSENT;
+
+  public String getValue() {
+    return name().toLowerCase();
+  }
+}
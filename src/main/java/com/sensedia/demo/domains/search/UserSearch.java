@@ -28,6 +28,10 @@ public class UserSearch {
   private Sort sort;
   private SortType sortType;
 
+  private UserSearchCursor cursor;
+
+  private CountMode countMode;
+
   public String getName() {
     return name;
   }
@@ -100,6 +104,22 @@ public class UserSearch {
     this.sortType = sortType;
   }
 
+  public UserSearchCursor getCursor() {
+    return cursor;
+  }
+
+  void setCursor(UserSearchCursor cursor) {
+    this.cursor = cursor;
+  }
+
+  public CountMode getCountMode() {
+    return countMode;
+  }
+
+  void setCountMode(CountMode countMode) {
+    this.countMode = countMode;
+  }
+
   @Override
   public String toString() {
     return new ToStringBuilder(this)
@@ -112,6 +132,8 @@ public class UserSearch {
         .append("createDateEnd", createdAtEnd)
         .append("sort", sort)
         .append("sortType", sortType)
+        .append("cursor", cursor)
+        .append("countMode", countMode)
         .toString();
   }
 }
@@ -59,6 +59,23 @@ public class UserSearchBuild {
       return this;
     }
 
+    public Builder cursor(String cursor) {
+      UserSearchCursor userSearchCursor = UserSearchCursor.fromValue(cursor);
+
+      if (userSearchCursor != null) {
+        userSearch.setSort(userSearchCursor.getSort());
+        userSearch.setSortType(userSearchCursor.getSortType());
+      }
+
+      userSearch.setCursor(userSearchCursor);
+      return this;
+    }
+
+    public Builder countMode(String countMode) {
+      userSearch.setCountMode(CountMode.fromValue(countMode));
+      return this;
+    }
+
     public Builder status(String status) {
       userSearch.setStatus(UserStatus.fromValue(status));
       return this;
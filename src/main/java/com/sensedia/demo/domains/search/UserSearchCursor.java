@@ -0,0 +1,116 @@
+package com.sensedia.demo.domains.search;
+
+import com.sensedia.commons.errors.exceptions.BadRequestException;
+import com.sensedia.demo.domains.User;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public class UserSearchCursor {
+
+  private static final String SEPARATOR = ".";
+  private static final int PARTS = 4;
+
+  private final Sort sort;
+  private final SortType sortType;
+  private final String lastValue;
+  private final String lastId;
+
+  private UserSearchCursor(Sort sort, SortType sortType, String lastValue, String lastId) {
+    this.sort = sort;
+    this.sortType = sortType;
+    this.lastValue = lastValue;
+    this.lastId = lastId;
+  }
+
+  public static UserSearchCursor of(Sort sort, SortType sortType, User lastUser) {
+    return new UserSearchCursor(sort, sortType, sortValueOf(sort, lastUser), lastUser.getId());
+  }
+
+  public static UserSearchCursor fromValue(String value) {
+    if (StringUtils.isBlank(value)) return null;
+
+    try {
+      String[] parts = StringUtils.splitPreserveAllTokens(value, SEPARATOR);
+
+      if (parts.length != PARTS) throw invalidCursor(value);
+
+      UserSearchCursor cursor =
+          new UserSearchCursor(
+              Sort.valueOf(decode(parts[0])),
+              SortType.valueOf(decode(parts[1])),
+              decode(parts[2]),
+              decode(parts[3]));
+
+      cursor.getLastSortValue();
+
+      return cursor;
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw invalidCursor(value);
+    }
+  }
+
+  public String encode() {
+    return String.join(
+        SEPARATOR, encode(sort.name()), encode(sortType.name()), encode(lastValue), encode(lastId));
+  }
+
+  public Sort getSort() {
+    return sort;
+  }
+
+  public SortType getSortType() {
+    return sortType;
+  }
+
+  public String getLastId() {
+    return lastId;
+  }
+
+  public Object getLastSortValue() {
+    return sort == Sort.CREATED_AT ? Instant.parse(lastValue) : lastValue;
+  }
+
+  private static String sortValueOf(Sort sort, User user) {
+    switch (sort) {
+      case NAME:
+        return user.getName();
+      case EMAIL:
+        return user.getEmail();
+      case STATUS:
+        return user.getStatus().name();
+      case CREATED_AT:
+        return user.getCreatedAt().toString();
+      default:
+        throw new IllegalStateException("Unsupported sort [" + sort + "]");
+    }
+  }
+
+  private static String encode(String value) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String decode(String value) {
+    return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+  }
+
+  private static BadRequestException invalidCursor(String value) {
+    return new BadRequestException("Invalid cursor [" + value + "]");
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("sort", sort)
+        .append("sortType", sortType)
+        .append("lastValue", lastValue)
+        .append("lastId", lastId)
+        .toString();
+  }
+}
@@ -9,12 +9,26 @@ public class UserSearchResponse {
 
   private List<User> users;
   private int total;
+  private TotalType totalType;
   private int maximumLimitPerPage;
+  private String nextCursor;
+  private String version;
 
   public UserSearchResponse(List<User> users, int total, int maximumLimitPerPage) {
+    this(users, total, TotalType.EXACT, maximumLimitPerPage, null);
+  }
+
+  public UserSearchResponse(
+      List<User> users,
+      int total,
+      TotalType totalType,
+      int maximumLimitPerPage,
+      String nextCursor) {
     this.users = users;
     this.total = total;
+    this.totalType = totalType;
     this.maximumLimitPerPage = maximumLimitPerPage;
+    this.nextCursor = nextCursor;
   }
 
   public List<User> getUsers() {
@@ -25,16 +39,35 @@ public class UserSearchResponse {
     return total;
   }
 
+  public TotalType getTotalType() {
+    return totalType;
+  }
+
   public int getMaximumLimitPerPage() {
     return maximumLimitPerPage;
   }
 
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public String getVersion() {
+    return version;
+  }
+
+  public void setVersion(String version) {
+    this.version = version;
+  }
+
   @Override
   public String toString() {
     return new ToStringBuilder(this)
         .append("users", users)
         .append("total", total)
+        .append("totalType", totalType)
         .append("maximumLimitPerPage", maximumLimitPerPage)
+        .append("nextCursor", nextCursor)
+        .append("version", version)
         .toString();
   }
 }
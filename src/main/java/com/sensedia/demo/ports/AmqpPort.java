@@ -3,13 +3,22 @@ package com.sensedia.demo.ports;
 import com.sensedia.commons.errors.domains.DefaultErrorResponse;
 import com.sensedia.demo.domains.User;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface AmqpPort {
 
-  void notifyUserCreation(User user);
+  CompletableFuture<Void> notifyUserCreation(User user);
+
+  CompletableFuture<Void> notifyUserDeletion(User user);
+
+  CompletableFuture<Void> notifyUserOperationError(DefaultErrorResponse errorResponse);
+
+  CompletableFuture<Void> notifyUserUpdate(User user);
 
-  void notifyUserDeletion(User user);
+  CompletableFuture<Void> notifyUserCreations(List<User> users);
 
-  void notifyUserOperationError(DefaultErrorResponse errorResponse);
+  CompletableFuture<Void> notifyUserDeletions(List<User> users);
 
-  void notifyUserUpdate(User user);
+  CompletableFuture<Void> notifyUserUpdates(List<User> users);
 }
@@ -1,11 +1,14 @@
 package com.sensedia.demo.ports;
 
 import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.UserBatchItem;
 import com.sensedia.demo.domains.search.UserSearch;
 import com.sensedia.demo.domains.search.UserSearchResponse;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface ApplicationPort {
   User create(@Valid @NotNull User user);
@@ -17,4 +20,14 @@ public interface ApplicationPort {
   User findById(@NotNull String id);
 
   UserSearchResponse findAll(@Valid @NotNull UserSearch userSearch);
+
+  String findSearchVersion();
+
+  void export(@Valid @NotNull UserSearch userSearch, @NotNull Consumer<User> consumer);
+
+  List<UserBatchItem> createBatch(@NotNull List<User> users);
+
+  List<UserBatchItem> updateBatch(@NotNull List<User> users);
+
+  List<UserBatchItem> deleteBatch(@NotNull List<String> ids);
 }
@@ -0,0 +1,24 @@
+package com.sensedia.demo.ports;
+
+import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.search.UserSearch;
+import com.sensedia.demo.domains.search.UserSearchResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+public interface ReactiveApplicationPort {
+  Mono<User> create(@Valid @NotNull User user);
+
+  Mono<Void> delete(@NotNull String id);
+
+  Mono<User> update(@Valid @NotNull User user, @NotNull String id);
+
+  Mono<User> findById(@NotNull String id);
+
+  Mono<UserSearchResponse> findAll(@Valid @NotNull UserSearch userSearch);
+
+  Flux<User> export(@Valid @NotNull UserSearch userSearch);
+}
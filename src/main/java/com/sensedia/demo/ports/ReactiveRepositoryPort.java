@@ -0,0 +1,15 @@
+package com.sensedia.demo.ports;
+
+import com.sensedia.demo.adapters.repository.ReactiveAdvancedUserSearch;
+import com.sensedia.demo.adapters.repository.ReactiveAtomicUserOperations;
+import com.sensedia.demo.domains.User;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("reactive")
+public interface ReactiveRepositoryPort
+    extends ReactiveCrudRepository<User, String>,
+        ReactiveAdvancedUserSearch,
+        ReactiveAtomicUserOperations {}
@@ -1,9 +1,15 @@
 package com.sensedia.demo.ports;
 
 import com.sensedia.demo.adapters.repository.AdvancedUserSearch;
+import com.sensedia.demo.adapters.repository.AtomicUserOperations;
+import com.sensedia.demo.adapters.repository.BulkUserOperations;
 import com.sensedia.demo.domains.User;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface RepositoryPort extends CrudRepository<User, String>, AdvancedUserSearch {}
+public interface RepositoryPort
+    extends CrudRepository<User, String>,
+        AdvancedUserSearch,
+        AtomicUserOperations,
+        BulkUserOperations {}
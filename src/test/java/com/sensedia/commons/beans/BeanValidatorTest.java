@@ -0,0 +1,73 @@
+package com.sensedia.commons.beans;
+
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import com.sensedia.commons.errors.resolvers.ConstraintViolationExceptionResolver;
+import com.sensedia.demo.adapters.dtos.UserCreationDto;
+import com.sensedia.demo.adapters.dtos.UserUpdateDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import javax.validation.groups.Default;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class BeanValidatorTest {
+
+  private final ConstraintViolationExceptionResolver resolver =
+      new ConstraintViolationExceptionResolver();
+
+  @Test
+  @DisplayName("I want a user update with several violations to keep the previous error payload")
+  public void keepPayloadForUserUpdateWithSeveralViolations() {
+    UserUpdateDto userUpdate = new UserUpdateDto();
+    userUpdate.setEmail("invalid-email");
+
+    assertSamePayload(userUpdate);
+    assertSamePayload(new UserUpdateDto());
+  }
+
+  @Test
+  @DisplayName("I want a batch update with several violations to keep the previous error payload")
+  public void keepPayloadForBatchUserUpdateWithSeveralViolations() {
+    assertSamePayload(new UserUpdateDto(), Default.class, UserUpdateDto.Batch.class);
+  }
+
+  @Test
+  @DisplayName("I want a user creation with several violations to keep the previous error payload")
+  public void keepPayloadForUserCreationWithSeveralViolations() {
+    assertSamePayload(new UserCreationDto());
+  }
+
+  private void assertSamePayload(Object obj, Class<?>... groups) {
+    Set<ConstraintViolation<Object>> previousErrors =
+        Validation.buildDefaultValidatorFactory().getValidator().validate(obj, groups);
+
+    ConstraintViolationException e =
+        catchThrowableOfType(
+            () -> BeanValidator.validate(obj, groups), ConstraintViolationException.class);
+
+    assertThat(e).isNotNull();
+    assertThat(previousErrors).hasSizeGreaterThan(1);
+    assertThat(details(e.getConstraintViolations())).isEqualTo(details(previousErrors));
+
+    DefaultErrorResponse error = resolver.getErrorResponse(e);
+
+    assertThat(error.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    assertThat(error.getDetail()).isIn(details(previousErrors));
+  }
+
+  private Set<String> details(Set<? extends ConstraintViolation<?>> errors) {
+    return errors.stream()
+        .map(error -> new ConstraintViolationException(Collections.singleton(error)))
+        .map(error -> resolver.getErrorResponse(error).getDetail())
+        .collect(Collectors.toSet());
+  }
+}
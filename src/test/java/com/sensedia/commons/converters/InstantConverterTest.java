@@ -0,0 +1,124 @@
+package com.sensedia.commons.converters;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InstantConverterTest {
+
+  private final InstantConverter instantConverter = new InstantConverter();
+
+  @ParameterizedTest
+  @DisplayName("I want the single pass parser to accept the same dates as the JDK parsers")
+  @ValueSource(
+      strings = {
+        "2020-01-01",
+        "0000-01-01",
+        "2020-02-29",
+        "2020-02-29T10:15:30Z",
+        "2020-02-29T10:15:30",
+        "2020-12-31T23:59",
+        "2020-12-31T23:59:59",
+        "2020-12-31T23:59:59Z",
+        "2020-01-01T10:15:30.1",
+        "2020-01-01T10:15:30.12",
+        "2020-01-01T10:15:30.123",
+        "2020-01-01T10:15:30.1234",
+        "2020-01-01T10:15:30.12345",
+        "2020-01-01T10:15:30.123456",
+        "2020-01-01T10:15:30.1234567",
+        "2020-01-01T10:15:30.12345678",
+        "2020-01-01T10:15:30.123456789",
+        "2020-01-01T10:15:30.1Z",
+        "2020-01-01T10:15:30.12Z",
+        "2020-01-01T10:15:30.123Z",
+        "2020-01-01T10:15:30.1234Z",
+        "2020-01-01T10:15:30.12345Z",
+        "2020-01-01T10:15:30.123456Z",
+        "2020-01-01T10:15:30.1234567Z",
+        "2020-01-01T10:15:30.12345678Z",
+        "2020-01-01T10:15:30.123456789Z",
+        "2020-01-01t10:15:30z",
+        "2020-01-01T24:00:00Z",
+        "2020-01-01T10:15:30.",
+        "2020-01-01T10:15:30.Z",
+        "2020-01-01T10:15:30+01:00"
+      })
+  public void parseValidDates(String date) {
+    assertThat(instantConverter.toInstant(date)).isEqualTo(parseWithJdk(date));
+  }
+
+  @ParameterizedTest
+  @DisplayName("I want the single pass parser to reject the same dates as the JDK parsers")
+  @ValueSource(
+      strings = {
+        "",
+        "garbage",
+        "2020/01/01",
+        "2019-02-29",
+        "2019-02-29T10:15:30Z",
+        "2100-02-29T10:15:30",
+        "2020-00-10",
+        "2020-13-01",
+        "2020-01-00",
+        "2020-01-32",
+        "2020-01-01T24:00",
+        "2020-01-01T24:00:00",
+        "2020-01-01T10:60:00",
+        "2020-01-01T10:15:30.1234567890",
+        "2020-01-01T10:15:30.1234567890Z",
+        "2020-01-01T10:15:30.12a",
+        "2020-01-0",
+        "2020-01-01T",
+        "2020-01-01T10",
+        "2020-01-01T10:1",
+        "2020-01-01T10:15:3",
+        "2020-01-01T10:15:3Z",
+        "2020-01-01T10:15Z",
+        "2020-01-01 10:15:30"
+      })
+  public void rejectInvalidDates(String date) {
+    assertThat(tryParseWithJdk(date)).isNull();
+
+    assertThatThrownBy(() -> instantConverter.toInstant(date))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Invalid date format for the value [" + date + "]. Use the date in ISO 8601 format")
+        .hasCauseInstanceOf(DateTimeParseException.class);
+  }
+
+  private Instant parseWithJdk(String date) {
+    Instant instant = tryParseWithJdk(date);
+
+    assertThat(instant).as("JDK parse of [%s]", date).isNotNull();
+
+    return instant;
+  }
+
+  private Instant tryParseWithJdk(String date) {
+    ZoneId zoneId = ZoneId.systemDefault();
+
+    try {
+      return Instant.parse(date);
+    } catch (DateTimeParseException instantError) {
+      try {
+        return LocalDateTime.parse(date).atZone(zoneId).toInstant();
+      } catch (DateTimeParseException localDateTimeError) {
+        try {
+          return LocalDate.parse(date).atStartOfDay().atZone(zoneId).toInstant();
+        } catch (DateTimeParseException localDateError) {
+          return null;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.sensedia.commons.errors.resolvers;
+
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import com.sensedia.commons.errors.exceptions.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ExceptionResolverTest {
+
+  private ExceptionResolver exceptionResolver;
+
+  @BeforeEach
+  public void setup() {
+    exceptionResolver =
+        new ExceptionResolver(
+            new ApplicationExceptionResolver(),
+            new ConstraintViolationExceptionResolver(),
+            new DateTimeParseExceptionResolver(),
+            new HttpMessageNotReadableExceptionResolver(),
+            new HttpRequestMethodNotSupportedExceptionResolver(),
+            new IllegalArgumentExceptionResolver(),
+            new JsonMappingExceptionResolver(),
+            new MethodArgumentNotValidExceptionResolver(),
+            new MethodArgumentTypeMismatchExceptionResolver(),
+            new MissingRequestHeaderExceptionResolver(),
+            new MissingServletRequestParameterExceptionResolver(),
+            new NoHandlerFoundExceptionResolver(),
+            new ResponseStatusExceptionResolver());
+  }
+
+  @Test
+  @DisplayName("I want a subclass to resolve to its nearest registered ancestor")
+  public void resolveNearestRegisteredAncestor() {
+    DefaultErrorResponse notFound = exceptionResolver.solve(new NotFoundException("not found"));
+    DefaultErrorResponse numberFormat =
+        exceptionResolver.solve(new NumberFormatException("invalid number"));
+
+    assertThat(notFound.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    assertThat(numberFormat.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    assertThat(numberFormat.getDetail()).isEqualTo("invalid number");
+
+    exceptionResolver.register(new NumberFormatExceptionResolver());
+
+    assertThat(exceptionResolver.solve(new NumberFormatException("invalid number")).getStatus())
+        .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY.value());
+    assertThat(exceptionResolver.solve(new IllegalArgumentException("invalid")).getStatus())
+        .isEqualTo(HttpStatus.BAD_REQUEST.value());
+  }
+
+  @Test
+  @DisplayName("I want unregistered exceptions to resolve to an internal server error")
+  public void resolveUnregisteredException() {
+    DefaultErrorResponse error = exceptionResolver.solve(new IllegalStateException("failed"));
+
+    assertThat(error.getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR.value());
+    assertThat(error.getDetail()).isEqualTo("failed");
+  }
+
+  @Test
+  @DisplayName("I want the resolver lookup to hit the cache after the first lookup")
+  public void hitCacheAfterFirstLookup() {
+    exceptionResolver.solve(new NumberFormatException("invalid number"));
+
+    Map<?, ?> resolvers = (Map<?, ?>) ReflectionTestUtils.getField(exceptionResolver, "resolvers");
+    Map<?, ?> resolversByException =
+        (Map<?, ?>) ReflectionTestUtils.getField(exceptionResolver, "resolversByException");
+    Object cached = resolversByException.get(NumberFormatException.class);
+
+    assertThat(cached).isNotNull();
+
+    resolvers.clear();
+
+    assertThat(exceptionResolver.solve(new NumberFormatException("invalid number")).getStatus())
+        .isEqualTo(HttpStatus.BAD_REQUEST.value());
+    assertThat(resolversByException.get(NumberFormatException.class)).isSameAs(cached);
+  }
+
+  @Test
+  @DisplayName("I want registering a second resolver for the same exception to fail")
+  public void rejectDuplicateRegistration() {
+    exceptionResolver.solve(new IllegalArgumentException("invalid"));
+
+    assertThatThrownBy(() -> exceptionResolver.register(new IllegalArgumentExceptionResolver()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining(IllegalArgumentException.class.getName());
+
+    assertThat(exceptionResolver.solve(new IllegalArgumentException("invalid")).getStatus())
+        .isEqualTo(HttpStatus.BAD_REQUEST.value());
+  }
+
+  private static class NumberFormatExceptionResolver implements Resolver<NumberFormatException> {
+
+    @Override
+    public DefaultErrorResponse getErrorResponse(NumberFormatException e) {
+      return new DefaultErrorResponse(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+    }
+  }
+}
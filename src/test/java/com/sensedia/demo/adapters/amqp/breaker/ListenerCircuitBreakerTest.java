@@ -0,0 +1,100 @@
+package com.sensedia.demo.adapters.amqp.breaker;
+
+import com.sensedia.commons.breakers.CircuitBreaker.State;
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ListenerCircuitBreakerTest {
+
+  private static final DefaultErrorResponse SERVER_ERROR =
+      new DefaultErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "database error");
+
+  private final ListenerCircuitBreaker listenerCircuitBreaker =
+      new ListenerCircuitBreaker(
+          new SimpleMeterRegistry(),
+          true,
+          0.5,
+          1,
+          1,
+          Duration.ofMillis(200),
+          1,
+          Duration.ofMillis(10));
+
+  @AfterEach
+  public void tearDown() {
+    listenerCircuitBreaker.destroy();
+  }
+
+  @Test
+  @DisplayName("I want the listeners to stop consuming while the breaker is open")
+  public void stopConsumersWhileOpen() throws Exception {
+    SimpleMessageListenerContainer container = container(1);
+
+    fail();
+
+    // CONTAINER VALIDATION
+    verify(container, timeout(1000)).stop();
+    verify(container, never()).start();
+
+    verify(container, timeout(1000)).start();
+    verify(container, never()).setConcurrentConsumers(anyInt());
+  }
+
+  @Test
+  @DisplayName("I want the listeners to ramp their consumers up once the breaker closes")
+  public void rampConsumersAfterClosing() throws Exception {
+    SimpleMessageListenerContainer container = container(3);
+
+    fail();
+
+    verify(container, timeout(1000)).start();
+
+    boolean probe = listenerCircuitBreaker.acquire();
+    listenerCircuitBreaker.release(probe, null);
+
+    assertThat(probe).isTrue();
+    assertThat(listenerCircuitBreaker.getState()).isEqualTo(State.CLOSED);
+
+    // CONTAINER VALIDATION
+    InOrder consumers = inOrder(container);
+
+    consumers.verify(container).stop();
+    consumers.verify(container).setConcurrentConsumers(1);
+    consumers.verify(container).start();
+    consumers.verify(container, timeout(1000)).setConcurrentConsumers(2);
+    consumers.verify(container, timeout(1000)).setConcurrentConsumers(3);
+  }
+
+  private SimpleMessageListenerContainer container(int consumers) {
+    SimpleMessageListenerContainer container = mock(SimpleMessageListenerContainer.class);
+    when(container.getActiveConsumerCount()).thenReturn(consumers);
+
+    listenerCircuitBreaker.register(container, "group");
+
+    return container;
+  }
+
+  private void fail() {
+    boolean probe = listenerCircuitBreaker.acquire();
+    listenerCircuitBreaker.release(probe, SERVER_ERROR);
+
+    assertThat(listenerCircuitBreaker.getState()).isEqualTo(State.OPEN);
+  }
+}
@@ -3,13 +3,18 @@ package com.sensedia.demo.it.http;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mongodb.MongoTimeoutException;
+import com.sensedia.demo.adapters.amqp.AmqpUserAdapterInbound;
 import com.sensedia.demo.adapters.amqp.config.BrokerInput;
 import com.sensedia.demo.adapters.amqp.config.BrokerOutput;
+import com.sensedia.demo.adapters.amqp.dispatch.PartitionedDispatcher;
 import com.sensedia.demo.applications.UserApplication;
+import com.sensedia.demo.applications.UserSearchCache;
 import com.sensedia.demo.domains.User;
+import com.sensedia.demo.ports.AmqpPort;
 import com.sensedia.demo.ports.RepositoryPort;
 import com.sensedia.demo.commons.MessageCollectorCustom;
 import io.micrometer.core.instrument.util.IOUtils;
+import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.web.client.TestRestTemplate;
@@ -19,8 +24,11 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -44,9 +52,22 @@ public abstract class AbstractUserTest {
 
   @Autowired private UserApplication userApplication;
 
+  @Autowired private UserSearchCache userSearchCache;
+
+  @Autowired private AmqpUserAdapterInbound amqpUserAdapterInbound;
+
+  @Autowired private AmqpPort amqpPort;
+
+  @Autowired private PartitionedDispatcher partitionedDispatcher;
+
   @Value("classpath:users.json")
   private Resource usersJson;
 
+  @BeforeEach
+  public void invalidateSearchCache() {
+    userSearchCache.invalidateAll();
+  }
+
   void loadDatabase() throws IOException {
     String json = loadData(usersJson);
     List<User> users = mapper.readValue(json, new TypeReference<List<User>>() {});
@@ -72,4 +93,26 @@ public abstract class AbstractUserTest {
   void undoDatabaseError() {
     ReflectionTestUtils.setField(userApplication, "repository", repository);
   }
+
+  void injectErrorNotificationFailure() {
+    AmqpPort failingAmqpPort = mock(AmqpPort.class);
+    ReflectionTestUtils.setField(amqpUserAdapterInbound, "amqpPort", failingAmqpPort);
+    when(failingAmqpPort.notifyUserOperationError(any()))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker error")));
+  }
+
+  void undoErrorNotificationFailure() {
+    ReflectionTestUtils.setField(amqpUserAdapterInbound, "amqpPort", amqpPort);
+  }
+
+  void injectDispatcherRejection() {
+    PartitionedDispatcher rejectingDispatcher = mock(PartitionedDispatcher.class);
+    ReflectionTestUtils.setField(amqpUserAdapterInbound, "dispatcher", rejectingDispatcher);
+    when(rejectingDispatcher.dispatch(anyString(), any()))
+        .thenThrow(new RejectedExecutionException("dispatcher shut down"));
+  }
+
+  void undoDispatcherRejection() {
+    ReflectionTestUtils.setField(amqpUserAdapterInbound, "dispatcher", partitionedDispatcher);
+  }
 }
@@ -0,0 +1,190 @@
+package com.sensedia.demo.it.http;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.rabbitmq.client.Channel;
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import com.sensedia.demo.adapters.amqp.config.BindConfig;
+import com.sensedia.demo.adapters.dtos.UserCreationDto;
+import com.sensedia.demo.adapters.dtos.UserDeletionDto;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.commons.BrokerResponse;
+import com.sensedia.demo.domains.User;
+import org.junit.jupiter.api.*;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.integration.support.MessageBuilder;
+
+import java.io.IOException;
+
+import static com.sensedia.commons.headers.DefaultHeader.APP_ID_HEADER_NAME;
+import static com.sensedia.demo.adapters.amqp.config.ListenerAcknowledgeEnvironmentPostProcessor.acknowledgeModeProperty;
+import static com.sensedia.demo.adapters.amqp.config.ListenerAcknowledgeEnvironmentPostProcessor.prefetchProperty;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = {
+      "app.amqp.batch.enabled=true",
+      "app.amqp.batch.maximumSize=3",
+      "app.amqp.batch.maximumWait=1s"
+    })
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+public class AmqpUserBatchTest extends AbstractUserTest {
+
+  @Autowired Environment environment;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    repository.deleteAll();
+    loadDatabase();
+  }
+
+  @Test
+  @DisplayName("I want to create a user through the batched consumer")
+  public void createUserInBatch() throws IOException {
+    UserCreationDto userCreation = new UserCreationDto();
+
+    userCreation.setEmail("thiago.costa@sensedia.com");
+    userCreation.setName("Thiago Costa");
+
+    brokerInput
+        .subscribeUserCreationRequested()
+        .send(
+            MessageBuilder.withPayload(userCreation)
+                .setHeader(APP_ID_HEADER_NAME, "app-test")
+                .build());
+
+    // NOTIFICATION VALIDATION
+    BrokerResponse brokerResponse = collector.forChannel(brokerOutput.publishUserCreated());
+
+    UserDto userResponse = brokerResponse.getPayload(UserDto.class);
+
+    assertThat(isUUID(userResponse.getId())).isTrue();
+    assertThat(userResponse.getEmail()).isEqualTo("thiago.costa@sensedia.com");
+
+    // DATABASE VALIDATION
+    User user = repository.findById(userResponse.getId()).get();
+
+    assertThat(user.getName()).isEqualTo("Thiago Costa");
+    assertThat(user.getCreatedAt()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("I want to delete a user that does not exist through the batched consumer")
+  public void deleteUserThatDoesNotExistInBatch() throws IOException {
+    UserDeletionDto userDeletion = new UserDeletionDto(USER_ID_NOT_FOUND);
+
+    brokerInput
+        .subscribeUserDeletionRequested()
+        .send(
+            MessageBuilder.withPayload(userDeletion)
+                .setHeader(APP_ID_HEADER_NAME, "app-test")
+                .build());
+
+    // RESPONSE VALIDATION
+    BrokerResponse brokerResponse = collector.forChannel(brokerOutput.publishUserOperationError());
+
+    DefaultErrorResponse<UserDeletionDto> response =
+        brokerResponse.getPayload(new TypeReference<>() {});
+
+    assertThat(response.getOriginalMessage()).isEqualTo(userDeletion);
+    assertThat(response.getStatus()).isEqualTo(NOT_FOUND.value());
+    assertThat(response.getDetail()).isEqualTo("User not found");
+
+    // NOTIFICATION VALIDATION
+    assertThat(collector.forChannel(brokerOutput.publishUserDeleted())).isNull();
+  }
+
+  @Test
+  @DisplayName("I want the batched consumer to use manual acknowledgement with a batch prefetch")
+  public void configureBatchedConsumerAcknowledgement() {
+    // CONFIGURATION VALIDATION
+    assertThat(
+            environment.getProperty(
+                acknowledgeModeProperty(BindConfig.SUBSCRIBE_USER_CREATION_REQUESTED)))
+        .isEqualTo("MANUAL");
+    assertThat(
+            environment.getProperty(
+                prefetchProperty(BindConfig.SUBSCRIBE_USER_CREATION_REQUESTED), Integer.class))
+        .isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("I want the batched consumer to keep several messages in flight")
+  public void keepSeveralMessagesInFlight() throws IOException {
+    Channel channel = mock(Channel.class);
+
+    sendCreation("usuario-lote-1@sensedia.com", channel, 1L);
+    sendCreation("usuario-lote-2@sensedia.com", channel, 2L);
+
+    // IN FLIGHT VALIDATION
+    verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+    sendCreation("usuario-lote-3@sensedia.com", channel, 3L);
+
+    // ACKNOWLEDGEMENT VALIDATION
+    verify(channel, timeout(500)).basicAck(1L, false);
+    verify(channel, timeout(500)).basicAck(2L, false);
+    verify(channel, timeout(500)).basicAck(3L, false);
+    verify(channel, never()).basicReject(anyLong(), anyBoolean());
+
+    // DATABASE VALIDATION
+    assertThat(repository.findAll())
+        .extracting(User::getEmail)
+        .contains(
+            "usuario-lote-1@sensedia.com",
+            "usuario-lote-2@sensedia.com",
+            "usuario-lote-3@sensedia.com");
+  }
+
+  @Test
+  @DisplayName("I want the batched consumer to reject a message whose error was not published")
+  public void rejectMessageWhenErrorIsNotPublished() throws IOException {
+    Channel channel = mock(Channel.class);
+
+    injectErrorNotificationFailure();
+
+    try {
+      brokerInput
+          .subscribeUserDeletionRequested()
+          .send(
+              MessageBuilder.withPayload(new UserDeletionDto(USER_ID_NOT_FOUND))
+                  .setHeader(APP_ID_HEADER_NAME, "app-test")
+                  .setHeader(AmqpHeaders.CHANNEL, channel)
+                  .setHeader(AmqpHeaders.DELIVERY_TAG, 1L)
+                  .build());
+
+      // ACKNOWLEDGEMENT VALIDATION
+      verify(channel, timeout(2000)).basicReject(1L, false);
+      verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    } finally {
+      undoErrorNotificationFailure();
+    }
+  }
+
+  private void sendCreation(String email, Channel channel, long deliveryTag) {
+    UserCreationDto userCreation = new UserCreationDto();
+
+    userCreation.setEmail(email);
+    userCreation.setName("Thiago Costa");
+
+    brokerInput
+        .subscribeUserCreationRequested()
+        .send(
+            MessageBuilder.withPayload(userCreation)
+                .setHeader(APP_ID_HEADER_NAME, "app-test")
+                .setHeader(AmqpHeaders.CHANNEL, channel)
+                .setHeader(AmqpHeaders.DELIVERY_TAG, deliveryTag)
+                .build());
+  }
+}
@@ -0,0 +1,181 @@
+package com.sensedia.demo.it.http;
+
+import com.sensedia.demo.adapters.dtos.UserCreationDto;
+import com.sensedia.demo.domains.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.integration.support.MessageBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.sensedia.commons.headers.DefaultHeader.APP_ID_HEADER_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = {
+      "app.amqp.breaker.slidingWindowSize=4",
+      "app.amqp.breaker.minimumCalls=4",
+      "app.amqp.breaker.openDuration=500ms",
+      "app.amqp.breaker.probeCalls=1"
+    })
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+public class AmqpUserCircuitBreakerTest extends AbstractUserTest {
+
+  @Autowired MeterRegistry meterRegistry;
+
+  @BeforeEach
+  public void setup() {
+    repository.deleteAll();
+    drainErrors();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    undoDatabaseError();
+    undoDispatcherRejection();
+  }
+
+  @Test
+  @DisplayName("I want the user listeners to pause while the database is failing")
+  public void pauseListenersWhileDatabaseIsFailing() throws Exception {
+    double opened = transitions("open");
+    double pauses = meterRegistry.get("user.amqp.breaker.paused").functionTimer().count();
+
+    injectDatabaseError();
+
+    for (int index = 1; index <= 4; index++) {
+      sendCreation("usuario0" + index + "@sensedia.com");
+    }
+
+    // BREAKER VALIDATION
+    assertThat(drainErrors()).isEqualTo(4);
+    assertThat(state("open")).isEqualTo(1);
+    assertThat(transitions("open")).isEqualTo(opened + 1);
+
+    undoDatabaseError();
+
+    CompletableFuture<Void> paused =
+        CompletableFuture.runAsync(() -> sendCreation("thiago.costa@sensedia.com"));
+
+    TimeUnit.MILLISECONDS.sleep(100);
+
+    assertThat(paused).isNotDone();
+    assertThat(repository.findAll()).isEmpty();
+
+    paused.get(5, TimeUnit.SECONDS);
+
+    // DATABASE VALIDATION
+    User user = repository.findAll().iterator().next();
+
+    assertThat(user.getEmail()).isEqualTo("thiago.costa@sensedia.com");
+
+    // METRICS VALIDATION
+    assertThat(state("closed")).isEqualTo(1);
+    assertThat(state("open")).isZero();
+    assertThat(transitions("half_open")).isGreaterThanOrEqualTo(1);
+    assertThat(meterRegistry.get("user.amqp.breaker.paused").functionTimer().count())
+        .isEqualTo(pauses + 1);
+    assertThat(
+            meterRegistry
+                .get("user.amqp.breaker.paused")
+                .functionTimer()
+                .totalTime(TimeUnit.MILLISECONDS))
+        .isGreaterThanOrEqualTo(400);
+
+    // NOTIFICATION VALIDATION
+    assertThat(drainErrors()).isZero();
+  }
+
+  @Test
+  @DisplayName("I want validation errors to keep the user listeners running")
+  public void keepListenersRunningOnValidationErrors() {
+    double opened = transitions("open");
+
+    for (int index = 1; index <= 4; index++) {
+      sendCreation("invalid-email-" + index);
+    }
+
+    // BREAKER VALIDATION
+    assertThat(drainErrors()).isEqualTo(4);
+    assertThat(state("closed")).isEqualTo(1);
+    assertThat(transitions("open")).isEqualTo(opened);
+  }
+
+  @Test
+  @DisplayName("I want a rejected dispatch to release the breaker probe")
+  public void releaseProbeWhenDispatchIsRejected() throws Exception {
+    injectDatabaseError();
+
+    for (int index = 1; index <= 4; index++) {
+      sendCreation("usuario0" + index + "@sensedia.com");
+    }
+
+    assertThat(drainErrors()).isEqualTo(4);
+    assertThat(state("open")).isEqualTo(1);
+
+    undoDatabaseError();
+    injectDispatcherRejection();
+
+    CompletableFuture.runAsync(() -> sendCreation("rejected@sensedia.com"))
+        .get(5, TimeUnit.SECONDS);
+
+    // BREAKER VALIDATION
+    assertThat(drainErrors()).isEqualTo(1);
+    assertThat(state("open")).isEqualTo(1);
+
+    undoDispatcherRejection();
+
+    CompletableFuture.runAsync(() -> sendCreation("thiago.costa@sensedia.com"))
+        .get(5, TimeUnit.SECONDS);
+
+    // DATABASE VALIDATION
+    assertThat(repository.findAll())
+        .extracting(User::getEmail)
+        .containsExactly("thiago.costa@sensedia.com");
+
+    // BREAKER VALIDATION
+    assertThat(state("closed")).isEqualTo(1);
+    assertThat(drainErrors()).isZero();
+  }
+
+  private void sendCreation(String email) {
+    UserCreationDto userCreation = new UserCreationDto();
+
+    userCreation.setEmail(email);
+    userCreation.setName("Thiago Costa");
+
+    brokerInput
+        .subscribeUserCreationRequested()
+        .send(
+            MessageBuilder.withPayload(userCreation)
+                .setHeader(APP_ID_HEADER_NAME, "app-test")
+                .build());
+  }
+
+  private int drainErrors() {
+    int errors = 0;
+
+    while (collector.forChannel(brokerOutput.publishUserOperationError()) != null) {
+      errors++;
+    }
+
+    return errors;
+  }
+
+  private double state(String state) {
+    return meterRegistry.get("user.amqp.breaker.state").tag("state", state).gauge().value();
+  }
+
+  private double transitions(String state) {
+    return meterRegistry
+        .get("user.amqp.breaker.transitions")
+        .tag("state", state)
+        .counter()
+        .count();
+  }
+}
@@ -0,0 +1,200 @@
+package com.sensedia.demo.it.http;
+
+import com.rabbitmq.client.Channel;
+import com.sensedia.demo.adapters.amqp.dispatch.PartitionedDispatcher;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.adapters.dtos.UserUpdateDto;
+import com.sensedia.demo.commons.BrokerResponse;
+import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.UserStatus;
+import org.junit.jupiter.api.*;
+import org.mockito.InOrder;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.integration.support.MessageBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.sensedia.commons.headers.DefaultHeader.APP_ID_HEADER_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = {"app.amqp.dispatcher.enabled=true", "app.amqp.dispatcher.lanes=2"})
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+public class AmqpUserDispatcherTest extends AbstractUserTest {
+
+  private static final int LANES = 2;
+
+  @Autowired PartitionedDispatcher dispatcher;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    repository.deleteAll();
+    loadDatabase();
+  }
+
+  @Test
+  @DisplayName("I want the updates of a user to be applied in the order they arrived")
+  public void updateUserInOrder() throws IOException {
+    sendUpdate("Thiago Costa", UserStatus.DISABLE);
+    sendUpdate("Thiago Silva", UserStatus.ACTIVE);
+
+    // DATABASE VALIDATION
+    User user = repository.findById(USER_ID_VALID).get();
+
+    assertThat(user.getName()).isEqualTo("Thiago Silva");
+    assertThat(user.getStatus()).isEqualTo(UserStatus.ACTIVE);
+
+    // NOTIFICATION VALIDATION
+    BrokerResponse first = collector.forChannel(brokerOutput.publishUserUpdated());
+    BrokerResponse second = collector.forChannel(brokerOutput.publishUserUpdated());
+
+    assertThat(first.getPayload(UserDto.class).getName()).isEqualTo("Thiago Costa");
+    assertThat(second.getPayload(UserDto.class).getName()).isEqualTo("Thiago Silva");
+  }
+
+  @Test
+  @DisplayName("I want the updates of a user to be acknowledged in the order they arrived")
+  public void acknowledgeUserUpdatesInOrder() throws IOException {
+    Channel channel = mock(Channel.class);
+
+    sendUpdate("Thiago Costa", UserStatus.DISABLE, channel, 1L);
+    sendUpdate("Thiago Silva", UserStatus.ACTIVE, channel, 2L);
+
+    // ACKNOWLEDGEMENT VALIDATION
+    InOrder acknowledgements = inOrder(channel);
+
+    acknowledgements.verify(channel, timeout(2000)).basicAck(1L, false);
+    acknowledgements.verify(channel, timeout(2000)).basicAck(2L, false);
+    verify(channel, never()).basicReject(anyLong(), anyBoolean());
+
+    // DATABASE VALIDATION
+    User user = repository.findById(USER_ID_VALID).get();
+
+    assertThat(user.getName()).isEqualTo("Thiago Silva");
+  }
+
+  @Test
+  @DisplayName("I want the dispatcher to hold a key while its previous task is running")
+  public void holdKeyWhilePreviousTaskRuns() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+
+    CompletableFuture<Boolean> first = dispatcher.dispatch(USER_ID_VALID, () -> await(release));
+    CompletableFuture<String> second = dispatcher.dispatch(USER_ID_VALID, () -> "second");
+
+    TimeUnit.MILLISECONDS.sleep(100);
+
+    // ORDER VALIDATION
+    assertThat(second).isNotDone();
+
+    release.countDown();
+
+    assertThat(first.get(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(second.get(2, TimeUnit.SECONDS)).isEqualTo("second");
+  }
+
+  @Test
+  @DisplayName("I want the dispatcher to run different lanes concurrently")
+  public void runDifferentLanesConcurrently() throws Exception {
+    String otherKey =
+        IntStream.range(0, 100)
+            .mapToObj(index -> "user-" + index)
+            .filter(key -> laneOf(key) != laneOf(USER_ID_VALID))
+            .findFirst()
+            .orElseThrow();
+
+    CountDownLatch release = new CountDownLatch(1);
+
+    CompletableFuture<Boolean> blocked = dispatcher.dispatch(USER_ID_VALID, () -> await(release));
+    CompletableFuture<String> other = dispatcher.dispatch(otherKey, () -> "other");
+
+    // CONCURRENCY VALIDATION
+    assertThat(other.get(2, TimeUnit.SECONDS)).isEqualTo("other");
+    assertThat(blocked).isNotDone();
+
+    release.countDown();
+
+    assertThat(blocked.get(2, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("I want a dispatched message whose error was not published to be rejected")
+  public void rejectMessageWhenErrorIsNotPublished() throws IOException {
+    Channel channel = mock(Channel.class);
+
+    injectErrorNotificationFailure();
+
+    try {
+      UserUpdateDto userUpdateDto = new UserUpdateDto();
+
+      userUpdateDto.setId(USER_ID_NOT_FOUND);
+      userUpdateDto.setEmail("thiago.costa@sensedia.com");
+      userUpdateDto.setName("Thiago Costa");
+      userUpdateDto.setStatus(UserStatus.ACTIVE.name());
+
+      brokerInput
+          .subscribeUserUpdateRequested()
+          .send(
+              MessageBuilder.withPayload(userUpdateDto)
+                  .setHeader(APP_ID_HEADER_NAME, "app-test")
+                  .setHeader(AmqpHeaders.CHANNEL, channel)
+                  .setHeader(AmqpHeaders.DELIVERY_TAG, 1L)
+                  .build());
+
+      // ACKNOWLEDGEMENT VALIDATION
+      verify(channel, timeout(2000)).basicReject(1L, false);
+      verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    } finally {
+      undoErrorNotificationFailure();
+    }
+  }
+
+  private int laneOf(String key) {
+    return Math.floorMod(key.hashCode(), LANES);
+  }
+
+  private boolean await(CountDownLatch latch) {
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void sendUpdate(String name, UserStatus status) {
+    sendUpdate(name, status, null, null);
+  }
+
+  private void sendUpdate(String name, UserStatus status, Channel channel, Long deliveryTag) {
+    UserUpdateDto userUpdateDto = new UserUpdateDto();
+
+    userUpdateDto.setId(USER_ID_VALID);
+    userUpdateDto.setEmail("thiago.costa@sensedia.com");
+    userUpdateDto.setName(name);
+    userUpdateDto.setStatus(status.name());
+
+    brokerInput
+        .subscribeUserUpdateRequested()
+        .send(
+            MessageBuilder.withPayload(userUpdateDto)
+                .setHeader(APP_ID_HEADER_NAME, "app-test")
+                .setHeader(AmqpHeaders.CHANNEL, channel)
+                .setHeader(AmqpHeaders.DELIVERY_TAG, deliveryTag)
+                .build());
+  }
+}
@@ -0,0 +1,143 @@
+package com.sensedia.demo.it.http;
+
+import com.sensedia.demo.adapters.amqp.publisher.AsyncPublisher;
+import com.sensedia.demo.adapters.dtos.UserCreationDto;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.commons.BrokerResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.sensedia.demo.adapters.amqp.config.PublisherConfirmsEnvironmentPostProcessor.CONFIRM_TYPE_PROPERTY;
+import static com.sensedia.demo.adapters.amqp.publisher.AsyncPublisher.PUBLISH_ID_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "app.amqp.publisher.async=true")
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+public class HttpUserAsyncPublishTest extends AbstractUserTest {
+
+  @BeforeEach
+  public void setup() {
+    repository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("I want the user creation event to be published asynchronously")
+  public void createUserWithAsyncPublish() throws IOException, InterruptedException {
+    UserCreationDto userCreation = new UserCreationDto();
+
+    userCreation.setEmail("thiago.costa@sensedia.com");
+    userCreation.setName("Thiago Costa");
+
+    ResponseEntity<UserDto> response =
+        request.exchange("/users", HttpMethod.POST, new HttpEntity<>(userCreation), UserDto.class);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+    // NOTIFICATION VALIDATION
+    BrokerResponse brokerResponse = await(brokerOutput.publishUserCreated());
+
+    assertThat(brokerResponse.getPayload(UserDto.class).getId())
+        .isEqualTo(response.getBody().getId());
+    assertThat(brokerResponse.getHeaders().get(PUBLISH_ID_HEADER)).isNotNull();
+  }
+
+  @Test
+  @DisplayName("I want the publisher to refuse confirms without correlated confirm type")
+  public void refuseConfirmsWithoutCorrelatedConfirmType() {
+    assertThatThrownBy(() -> publisher(1, 1, Duration.ofSeconds(1), "none"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining(CONFIRM_TYPE_PROPERTY);
+  }
+
+  @Test
+  @DisplayName("I want unconfirmed messages to expire and release their lane")
+  public void expireUnconfirmedMessages() throws Exception {
+    AsyncPublisher publisher = publisher(1, 10, Duration.ofMillis(200), "correlated");
+
+    try {
+      MessageChannel channel = (message, timeout) -> true;
+
+      CompletableFuture<Void> first = publisher.publish("test", channel, message());
+      CompletableFuture<Void> second = publisher.publish("test", channel, message());
+
+      assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(TimeoutException.class);
+      assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(TimeoutException.class);
+    } finally {
+      publisher.destroy();
+    }
+  }
+
+  @Test
+  @DisplayName("I want messages to be rejected when the publisher queue is full")
+  public void rejectMessagesWhenQueueIsFull() throws Exception {
+    AsyncPublisher publisher = publisher(1, 1, Duration.ofSeconds(1), "correlated");
+
+    try {
+      MessageChannel channel = (message, timeout) -> true;
+
+      publisher.publish("test", channel, message());
+      publisher.publish("test", channel, message());
+      publisher.publish("test", channel, message());
+
+      CompletableFuture<Void> rejected = publisher.publish("test", channel, message());
+
+      assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(RejectedExecutionException.class);
+    } finally {
+      publisher.destroy();
+    }
+  }
+
+  private AsyncPublisher publisher(
+      int maximumOutstanding, int queueCapacity, Duration confirmTimeout, String confirmType) {
+    return new AsyncPublisher(
+        new SimpleMeterRegistry(),
+        queueCapacity,
+        maximumOutstanding,
+        true,
+        Duration.ofMillis(50),
+        confirmTimeout,
+        new MockEnvironment().withProperty(CONFIRM_TYPE_PROPERTY, confirmType));
+  }
+
+  private Message<String> message() {
+    return MessageBuilder.withPayload("payload").build();
+  }
+
+  private BrokerResponse await(MessageChannel channel) throws InterruptedException {
+    for (int attempt = 0; attempt < 50; attempt++) {
+      BrokerResponse brokerResponse = collector.forChannel(channel);
+      if (brokerResponse != null) return brokerResponse;
+      Thread.sleep(100);
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,170 @@
+package com.sensedia.demo.it.http;
+
+import com.sensedia.demo.adapters.dtos.BatchItemDto;
+import com.sensedia.demo.adapters.dtos.UserCreationDto;
+import com.sensedia.demo.adapters.dtos.UserDeletionDto;
+import com.sensedia.demo.adapters.dtos.UserUpdateDto;
+import com.sensedia.demo.adapters.repository.BulkUserResult;
+import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.UserStatus;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+public class HttpUserBatchTest extends AbstractUserTest {
+
+  private static final ParameterizedTypeReference<List<BatchItemDto>> BATCH_RESPONSE =
+      new ParameterizedTypeReference<>() {};
+
+  @BeforeEach
+  public void setup() throws IOException {
+    repository.deleteAll();
+    loadDatabase();
+  }
+
+  @Test
+  @DisplayName("I want to create users in batch")
+  public void createUsersInBatch() {
+    UserCreationDto valid = new UserCreationDto();
+    valid.setName("Thiago Costa");
+    valid.setEmail("thiago.costa@sensedia.com");
+
+    UserCreationDto withoutEmail = new UserCreationDto();
+    withoutEmail.setName("Thiago Costa");
+
+    long total = repository.count();
+
+    ResponseEntity<List<BatchItemDto>> response =
+        request.exchange(
+            "/users/batch",
+            HttpMethod.POST,
+            new HttpEntity<>(Arrays.asList(valid, withoutEmail)),
+            BATCH_RESPONSE);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+
+    List<BatchItemDto> items = response.getBody();
+
+    assertThat(items).hasSize(2);
+    assertThat(items.get(0).getIndex()).isEqualTo(0);
+    assertThat(items.get(0).getStatus()).isEqualTo(HttpStatus.CREATED.value());
+    assertThat(items.get(0).getUser().getId()).isNotNull();
+    assertThat(items.get(0).getUser().getStatus()).isEqualTo(UserStatus.ACTIVE.toString());
+    assertThat(items.get(1).getIndex()).isEqualTo(1);
+    assertThat(items.get(1).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    assertThat(items.get(1).getError().getDetail())
+        .isEqualTo("email é obrigatório ou está no formato inválido.");
+
+    // DATABASE VALIDATION
+    assertThat(repository.count()).isEqualTo(total + 1);
+    assertThat(repository.findById(items.get(0).getUser().getId())).isPresent();
+  }
+
+  @Test
+  @DisplayName("I want to update users in batch")
+  public void updateUsersInBatch() {
+    UserUpdateDto valid = new UserUpdateDto();
+    valid.setId(USER_ID_VALID);
+    valid.setName("Thiago Costa");
+    valid.setEmail("thiago.costa@sensedia.com");
+    valid.setStatus(UserStatus.DISABLE.name());
+
+    UserUpdateDto notFound = new UserUpdateDto();
+    notFound.setId(USER_ID_NOT_FOUND);
+    notFound.setName("Thiago Costa");
+    notFound.setEmail("thiago.costa@sensedia.com");
+    notFound.setStatus(UserStatus.DISABLE.name());
+
+    ResponseEntity<List<BatchItemDto>> response =
+        request.exchange(
+            "/users/batch",
+            HttpMethod.PUT,
+            new HttpEntity<>(Arrays.asList(valid, notFound)),
+            BATCH_RESPONSE);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+
+    List<BatchItemDto> items = response.getBody();
+
+    assertThat(items).hasSize(2);
+    assertThat(items.get(0).getStatus()).isEqualTo(HttpStatus.OK.value());
+    assertThat(items.get(0).getUser().getName()).isEqualTo("Thiago Costa");
+    assertThat(items.get(0).getUser().getUpdatedAt()).isNotNull();
+    assertThat(items.get(1).getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    assertThat(items.get(1).getError().getDetail()).isEqualTo("User not found");
+
+    // DATABASE VALIDATION
+    assertThat(repository.findById(USER_ID_VALID).get().getStatus())
+        .isEqualTo(UserStatus.DISABLE);
+  }
+
+  @Test
+  @DisplayName("I want to delete users in batch")
+  public void deleteUsersInBatch() {
+    ResponseEntity<List<BatchItemDto>> response =
+        request.exchange(
+            "/users/batch",
+            HttpMethod.DELETE,
+            new HttpEntity<>(
+                Arrays.asList(
+                    new UserDeletionDto(USER_ID_VALID), new UserDeletionDto(USER_ID_NOT_FOUND))),
+            BATCH_RESPONSE);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+
+    List<BatchItemDto> items = response.getBody();
+
+    assertThat(items).hasSize(2);
+    assertThat(items.get(0).getStatus()).isEqualTo(HttpStatus.OK.value());
+    assertThat(items.get(0).getUser().getId()).isEqualTo(USER_ID_VALID);
+    assertThat(items.get(1).getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+
+    // DATABASE VALIDATION
+    assertThat(repository.findById(USER_ID_VALID)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("I want bulk writes that match no user to be reported as misses")
+  public void reportBulkMisses() {
+    User existing = repository.findById(USER_ID_VALID).orElseThrow();
+    existing.setName("Thiago Costa");
+
+    User missing = new User();
+    missing.setId(USER_ID_NOT_FOUND);
+    missing.setName("Thiago Costa");
+    missing.setEmail("thiago.costa@sensedia.com");
+
+    BulkUserResult updateResult = repository.bulkUpdate(Arrays.asList(missing, existing));
+
+    // UPDATE VALIDATION
+    assertThat(updateResult.getErrors()).isEmpty();
+    assertThat(updateResult.getMisses()).containsExactly(0);
+
+    BulkUserResult deleteResult =
+        repository.bulkDelete(Arrays.asList(USER_ID_VALID, USER_ID_NOT_FOUND));
+
+    // DELETE VALIDATION
+    assertThat(deleteResult.getErrors()).isEmpty();
+    assertThat(deleteResult.getMisses()).isEmpty();
+    assertThat(repository.findById(USER_ID_VALID)).isEmpty();
+
+    assertThat(repository.bulkDelete(Arrays.asList(USER_ID_VALID)).getMisses())
+        .containsExactly(0);
+  }
+}
@@ -0,0 +1,101 @@
+package com.sensedia.demo.it.http;
+
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = {
+      "app.http.limits.minimumLimit=0",
+      "app.http.limits.search.initialLimit=0",
+      "app.http.limits.search.maximumLimit=0",
+      "app.http.limits.export.initialLimit=0",
+      "app.http.limits.export.maximumLimit=0"
+    })
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+public class HttpUserConcurrencyLimitTest extends AbstractUserTest {
+
+  @Autowired MeterRegistry meterRegistry;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    repository.deleteAll();
+    loadDatabase();
+  }
+
+  @Test
+  @DisplayName("I want to search for users when the search limit is reached")
+  public void searchUsersOverLimit() {
+    double rejections = rejections("search");
+
+    ResponseEntity<DefaultErrorResponse> response =
+        request.exchange("/users", HttpMethod.GET, HttpEntity.EMPTY, DefaultErrorResponse.class);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    assertThat(response.getBody().getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    assertThat(response.getBody().getTitle())
+        .isEqualTo(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase());
+    assertThat(response.getBody().getDetail())
+        .isEqualTo(DefaultErrorResponse.TOO_MANY_REQUESTS_MESSAGE);
+
+    // METRICS VALIDATION
+    assertThat(rejections("search")).isEqualTo(rejections + 1);
+    assertThat(meterRegistry.get("user.http.limit").tag("class", "search").gauge().value())
+        .isZero();
+  }
+
+  @Test
+  @DisplayName("I want to export users when the export limit is reached")
+  public void exportUsersOverLimit() {
+    double rejections = rejections("export");
+    double searchRejections = rejections("search");
+
+    ResponseEntity<DefaultErrorResponse> response =
+        request.exchange(
+            "/users/export", HttpMethod.GET, HttpEntity.EMPTY, DefaultErrorResponse.class);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+    // METRICS VALIDATION
+    assertThat(rejections("export")).isEqualTo(rejections + 1);
+    assertThat(rejections("search")).isEqualTo(searchRejections);
+  }
+
+  @Test
+  @DisplayName("I want to get a user when only the search limit is reached")
+  public void getUserUnderReadLimit() {
+    ResponseEntity<UserDto> response =
+        request.exchange(
+            "/users/{id}", HttpMethod.GET, HttpEntity.EMPTY, UserDto.class, USER_ID_VALID);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    // METRICS VALIDATION
+    assertThat(meterRegistry.get("user.http.limit.inflight").tag("class", "read").gauge().value())
+        .isZero();
+  }
+
+  private double rejections(String requestClass) {
+    return meterRegistry
+        .get("user.http.limit.rejections")
+        .tag("class", requestClass)
+        .functionCounter()
+        .count();
+  }
+}
@@ -0,0 +1,190 @@
+package com.sensedia.demo.it.http;
+
+import com.sensedia.demo.adapters.amqp.config.CacheInvalidationInput;
+import com.sensedia.demo.adapters.dtos.UserCreationDto;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.adapters.dtos.UserUpdateDto;
+import com.sensedia.demo.domains.UserStatus;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.integration.support.MessageBuilder;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "app.cache.users.distributedInvalidation=true")
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+public class HttpUserETagTest extends AbstractUserTest {
+
+  @Autowired CacheInvalidationInput cacheInvalidationInput;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    repository.deleteAll();
+    loadDatabase();
+  }
+
+  @Test
+  @DisplayName("I want to get a user that was not modified")
+  public void getUserNotModified() {
+    ResponseEntity<UserDto> response =
+        request.exchange(
+            "/users/{id}", HttpMethod.GET, HttpEntity.EMPTY, UserDto.class, USER_ID_VALID);
+
+    String eTag = response.getHeaders().getETag();
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(eTag).isNotBlank();
+
+    ResponseEntity<UserDto> notModified =
+        request.exchange(
+            "/users/{id}", HttpMethod.GET, ifNoneMatch(eTag), UserDto.class, USER_ID_VALID);
+
+    // RESPONSE VALIDATION
+    assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(notModified.getBody()).isNull();
+    assertThat(notModified.getHeaders().getETag()).isEqualTo(eTag);
+  }
+
+  @Test
+  @DisplayName("I want to get a user that was modified after my last read")
+  public void getUserModified() {
+    String eTag =
+        request
+            .exchange(
+                "/users/{id}", HttpMethod.GET, HttpEntity.EMPTY, UserDto.class, USER_ID_VALID)
+            .getHeaders()
+            .getETag();
+
+    UserUpdateDto userUpdateDto = new UserUpdateDto();
+
+    userUpdateDto.setEmail("thiago.costa@sensedia.com");
+    userUpdateDto.setName("Thiago Costa");
+    userUpdateDto.setStatus(UserStatus.DISABLE.name());
+
+    request.exchange(
+        "/users/{id}",
+        HttpMethod.PUT,
+        new HttpEntity<>(userUpdateDto),
+        UserDto.class,
+        USER_ID_VALID);
+
+    ResponseEntity<UserDto> response =
+        request.exchange(
+            "/users/{id}", HttpMethod.GET, ifNoneMatch(eTag), UserDto.class, USER_ID_VALID);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getETag()).isNotEqualTo(eTag);
+    assertThat(response.getBody().getName()).isEqualTo("Thiago Costa");
+  }
+
+  @Test
+  @DisplayName("I want to search for users that were not modified")
+  public void searchUsersNotModified() {
+    ResponseEntity<UserDto[]> response =
+        request.exchange("/users?status=active", HttpMethod.GET, HttpEntity.EMPTY, UserDto[].class);
+
+    String eTag = response.getHeaders().getETag();
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(eTag).isNotBlank();
+
+    ResponseEntity<UserDto[]> notModified =
+        request.exchange(
+            "/users?status=active", HttpMethod.GET, ifNoneMatch(eTag), UserDto[].class);
+
+    // RESPONSE VALIDATION
+    assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(notModified.getBody()).isNull();
+  }
+
+  @Test
+  @DisplayName("I want to search for users after a user was created")
+  public void searchUsersModified() {
+    ResponseEntity<UserDto[]> response =
+        request.exchange("/users?status=active", HttpMethod.GET, HttpEntity.EMPTY, UserDto[].class);
+
+    String eTag = response.getHeaders().getETag();
+    int users = response.getBody().length;
+
+    UserCreationDto userCreation = new UserCreationDto();
+
+    userCreation.setEmail("thiago.costa@sensedia.com");
+    userCreation.setName("Thiago Costa");
+
+    request.exchange("/users", HttpMethod.POST, new HttpEntity<>(userCreation), UserDto.class);
+
+    ResponseEntity<UserDto[]> modified =
+        request.exchange(
+            "/users?status=active", HttpMethod.GET, ifNoneMatch(eTag), UserDto[].class);
+
+    // RESPONSE VALIDATION
+    assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(modified.getHeaders().getETag()).isNotEqualTo(eTag);
+    assertThat(modified.getBody()).hasSize(users + 1);
+  }
+
+  @Test
+  @DisplayName("I want to search for users that were not modified without querying the database")
+  public void searchUsersNotModifiedWithoutQuery() {
+    ResponseEntity<UserDto[]> response =
+        request.exchange("/users?status=active", HttpMethod.GET, HttpEntity.EMPTY, UserDto[].class);
+
+    String eTag = response.getHeaders().getETag();
+
+    injectDatabaseError();
+
+    try {
+      ResponseEntity<UserDto[]> notModified =
+          request.exchange(
+              "/users?status=active&sort=email",
+              HttpMethod.GET,
+              ifNoneMatch(eTag),
+              UserDto[].class);
+
+      // RESPONSE VALIDATION
+      assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    } finally {
+      undoDatabaseError();
+    }
+  }
+
+  @Test
+  @DisplayName("I want to search for users after a user was created by another instance")
+  public void searchUsersModifiedByRemoteCreation() {
+    ResponseEntity<UserDto[]> response =
+        request.exchange("/users?status=active", HttpMethod.GET, HttpEntity.EMPTY, UserDto[].class);
+
+    String eTag = response.getHeaders().getETag();
+
+    UserDto userDto = new UserDto();
+    userDto.setId("2c7f5a1e-8a2b-4c8e-9d3f-6b1e0a4d7c21");
+
+    cacheInvalidationInput.subscribeUserCreated().send(MessageBuilder.withPayload(userDto).build());
+
+    ResponseEntity<UserDto[]> modified =
+        request.exchange(
+            "/users?status=active", HttpMethod.GET, ifNoneMatch(eTag), UserDto[].class);
+
+    // RESPONSE VALIDATION
+    assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(modified.getHeaders().getETag()).isNotEqualTo(eTag);
+  }
+
+  private HttpEntity<Void> ifNoneMatch(String eTag) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfNoneMatch(eTag);
+    return new HttpEntity<>(headers);
+  }
+}
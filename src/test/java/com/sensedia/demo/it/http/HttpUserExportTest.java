@@ -0,0 +1,113 @@
+package com.sensedia.demo.it.http;
+
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+public class HttpUserExportTest extends AbstractUserTest {
+
+  @Autowired MeterRegistry meterRegistry;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    repository.deleteAll();
+    loadDatabase();
+  }
+
+  @Test
+  @DisplayName("I want to export all users as ndjson")
+  public void exportUsersAsNdjson() throws IOException {
+    ResponseEntity<String> response =
+        request.exchange("/users/export", HttpMethod.GET, HttpEntity.EMPTY, String.class);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getContentType().toString())
+        .isEqualTo("application/x-ndjson");
+
+    String[] lines = response.getBody().split("\n");
+
+    assertThat(lines).hasSize(5);
+    assertThat(mapper.readValue(lines[0], UserDto.class).getName()).isEqualTo("Usuário 01");
+    assertThat(mapper.readValue(lines[4], UserDto.class).getName()).isEqualTo("Usuário 05");
+  }
+
+  @Test
+  @DisplayName("I want to export the filtered users as csv")
+  public void exportFilteredUsersAsCsv() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.ACCEPT, "text/csv");
+
+    ResponseEntity<String> response =
+        request.exchange(
+            "/users/export?status=active&sort=email&sort_type=desc",
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
+            String.class);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getContentType().toString()).startsWith("text/csv");
+
+    String[] lines = response.getBody().split("\n");
+
+    assertThat(lines[0]).isEqualTo("id,name,email,status,created_at,updated_at");
+    assertThat(lines.length).isGreaterThan(1);
+    assertThat(lines).allMatch(line -> line.equals(lines[0]) || line.contains(",ACTIVE,"));
+  }
+
+  @Test
+  @DisplayName("I want to export users with an invalid format")
+  public void exportUsersWithInvalidFormat() {
+    ResponseEntity<DefaultErrorResponse> response =
+        request.exchange(
+            "/users/export?format=xml",
+            HttpMethod.GET,
+            HttpEntity.EMPTY,
+            DefaultErrorResponse.class);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getBody().getDetail())
+        .isEqualTo("Invalid format [xml], accepted values: [ndjson, csv]");
+  }
+
+  @Test
+  @DisplayName("I want the export permit to be released once the stream completes")
+  public void releaseExportPermitAfterStream() throws InterruptedException {
+    ResponseEntity<String> response =
+        request.exchange("/users/export", HttpMethod.GET, HttpEntity.EMPTY, String.class);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    // METRICS VALIDATION
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+
+    while (exportsInFlight() > 0 && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(20);
+    }
+
+    assertThat(exportsInFlight()).isZero();
+  }
+
+  private double exportsInFlight() {
+    return meterRegistry.get("user.http.limit.inflight").tag("class", "export").gauge().value();
+  }
+}
@@ -2,8 +2,12 @@ package com.sensedia.demo.it.http;
 
 import com.sensedia.commons.errors.domains.DefaultErrorResponse;
 import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.adapters.dtos.UserUpdateDto;
+import com.sensedia.demo.applications.UserCache;
+import com.sensedia.demo.domains.User;
 import com.sensedia.demo.domains.UserStatus;
 import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.http.HttpEntity;
@@ -19,10 +23,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 @TestMethodOrder(MethodOrderer.Alphanumeric.class)
 public class HttpUserGetTest extends AbstractUserTest {
 
+  @Autowired UserCache userCache;
+
   @BeforeEach
   public void setup() throws IOException {
     repository.deleteAll();
     loadDatabase();
+    userCache.invalidateAll();
   }
 
   @Test
@@ -45,6 +52,59 @@ public class HttpUserGetTest extends AbstractUserTest {
     assertThat(userResponse.getUpdatedAt()).isNotNull();
   }
 
+  @Test
+  @DisplayName("I want to get a user after it was updated")
+  public void getUserAfterUpdate() {
+    request.exchange(
+        "/users/{id}", HttpMethod.GET, HttpEntity.EMPTY, UserDto.class, USER_ID_VALID);
+
+    UserUpdateDto userUpdateDto = new UserUpdateDto();
+
+    userUpdateDto.setEmail("thiago.costa@sensedia.com");
+    userUpdateDto.setName("Thiago Costa");
+    userUpdateDto.setStatus(UserStatus.DISABLE.name());
+
+    request.exchange(
+        "/users/{id}",
+        HttpMethod.PUT,
+        new HttpEntity<>(userUpdateDto),
+        UserDto.class,
+        USER_ID_VALID);
+
+    ResponseEntity<UserDto> response =
+        request.exchange(
+            "/users/{id}", HttpMethod.GET, HttpEntity.EMPTY, UserDto.class, USER_ID_VALID);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    UserDto userResponse = response.getBody();
+
+    assertThat(userResponse.getEmail()).isEqualTo("thiago.costa@sensedia.com");
+    assertThat(userResponse.getName()).isEqualTo("Thiago Costa");
+    assertThat(userResponse.getStatus()).isEqualTo(UserStatus.DISABLE.toString());
+  }
+
+  @Test
+  @DisplayName("I want to get a user after it was deleted")
+  public void getUserAfterDelete() {
+    request.exchange(
+        "/users/{id}", HttpMethod.GET, HttpEntity.EMPTY, UserDto.class, USER_ID_VALID);
+
+    request.exchange("/users/{id}", HttpMethod.DELETE, HttpEntity.EMPTY, Void.class, USER_ID_VALID);
+
+    ResponseEntity<DefaultErrorResponse> response =
+        request.exchange(
+            "/users/{id}",
+            HttpMethod.GET,
+            HttpEntity.EMPTY,
+            DefaultErrorResponse.class,
+            USER_ID_VALID);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
   @Test
   @DisplayName("I want to get a user that does not exist")
   public void getUserThatDoesNotExist() {
@@ -63,4 +123,27 @@ public class HttpUserGetTest extends AbstractUserTest {
     assertThat(response.getBody().getDetail()).isEqualTo("User not found");
     assertThat(response.getBody().getType()).isNull();
   }
+
+  @Test
+  @DisplayName("I want a user read that raced with an update not to be cached")
+  public void getUserRacingWithUpdate() {
+    User staleUser =
+        userCache.get(
+            USER_ID_VALID,
+            () -> {
+              User user = repository.findById(USER_ID_VALID).orElseThrow();
+
+              userCache.invalidate(USER_ID_VALID);
+
+              return user;
+            });
+
+    // CACHE VALIDATION
+    assertThat(staleUser.getId()).isEqualTo(USER_ID_VALID);
+    assertThat(userCache.get(USER_ID_VALID)).isEmpty();
+
+    userCache.get(USER_ID_VALID, () -> repository.findById(USER_ID_VALID).orElseThrow());
+
+    assertThat(userCache.get(USER_ID_VALID)).isPresent();
+  }
 }
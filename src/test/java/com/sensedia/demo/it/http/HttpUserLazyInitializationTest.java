@@ -0,0 +1,67 @@
+package com.sensedia.demo.it.http;
+
+import com.sensedia.demo.adapters.dtos.UserCreationDto;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.domains.User;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.integration.support.MessageBuilder;
+
+import java.io.IOException;
+
+import static com.sensedia.commons.headers.DefaultHeader.APP_ID_HEADER_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "spring.main.lazy-initialization=true")
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+public class HttpUserLazyInitializationTest extends AbstractUserTest {
+
+  @BeforeEach
+  public void setup() throws IOException {
+    repository.deleteAll();
+    loadDatabase();
+  }
+
+  @Test
+  @DisplayName("I want to get a user with lazy initialization enabled")
+  public void getUserWithLazyInitialization() {
+    ResponseEntity<UserDto> response =
+        request.exchange(
+            "/users/{id}", HttpMethod.GET, HttpEntity.EMPTY, UserDto.class, USER_ID_VALID);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody().getId()).isEqualTo(USER_ID_VALID);
+  }
+
+  @Test
+  @DisplayName("I want to create a user through the broker with lazy initialization enabled")
+  public void createUserThroughBrokerWithLazyInitialization() {
+    UserCreationDto userCreation = new UserCreationDto();
+
+    userCreation.setEmail("thiago.costa@sensedia.com");
+    userCreation.setName("Thiago Costa");
+
+    brokerInput
+        .subscribeUserCreationRequested()
+        .send(
+            MessageBuilder.withPayload(userCreation)
+                .setHeader(APP_ID_HEADER_NAME, "app-test")
+                .build());
+
+    // DATABASE VALIDATION
+    assertThat(repository.findAll())
+        .extracting(User::getEmail)
+        .contains("thiago.costa@sensedia.com");
+
+    // NOTIFICATION VALIDATION
+    assertThat(collector.forChannel(brokerOutput.publishUserCreated())).isNotNull();
+  }
+}
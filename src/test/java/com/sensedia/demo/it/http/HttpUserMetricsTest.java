@@ -0,0 +1,109 @@
+package com.sensedia.demo.it.http;
+
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+
+import static com.sensedia.demo.adapters.metrics.PortMetrics.PORT_CALLS_METRIC;
+import static com.sensedia.demo.adapters.metrics.PortMetrics.REPOSITORY_SEARCH_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+public class HttpUserMetricsTest extends AbstractUserTest {
+
+  @Autowired MeterRegistry meterRegistry;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    repository.deleteAll();
+    loadDatabase();
+  }
+
+  @Test
+  @DisplayName("I want to time a search on every port it goes through")
+  public void timeSearch() {
+    String[] applicationTags = {
+      "port", "application", "operation", "findAll", "filters", "status", "outcome", "SUCCESS"
+    };
+    String[] repositoryTags = {
+      "port", "repository", "operation", "findAll", "sort", "email", "outcome", "SUCCESS"
+    };
+    String[] countTags = {"phase", "count", "count", "exact", "filters", "status"};
+    String[] findTags = {"phase", "find", "sort", "email", "filters", "status"};
+
+    long applicationCalls = count(PORT_CALLS_METRIC, applicationTags);
+    long repositoryCalls = count(PORT_CALLS_METRIC, repositoryTags);
+    long counts = count(REPOSITORY_SEARCH_METRIC, countTags);
+    long finds = count(REPOSITORY_SEARCH_METRIC, findTags);
+
+    ResponseEntity<UserDto[]> response =
+        request.exchange(
+            "/users?status=active&sort=email&count=exact",
+            HttpMethod.GET,
+            HttpEntity.EMPTY,
+            UserDto[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    // METRICS VALIDATION
+    assertThat(count(PORT_CALLS_METRIC, applicationTags)).isEqualTo(applicationCalls + 1);
+    assertThat(count(PORT_CALLS_METRIC, repositoryTags)).isEqualTo(repositoryCalls + 1);
+    assertThat(count(REPOSITORY_SEARCH_METRIC, countTags)).isEqualTo(counts + 1);
+    assertThat(count(REPOSITORY_SEARCH_METRIC, findTags)).isEqualTo(finds + 1);
+  }
+
+  @Test
+  @DisplayName("I want to tag a failed call with the resolved outcome")
+  public void timeFailedCall() {
+    String[] tags = {
+      "port", "application", "operation", "findById", "outcome", "CLIENT_ERROR",
+      "exception", "NotFoundException"
+    };
+
+    long calls = count(PORT_CALLS_METRIC, tags);
+
+    ResponseEntity<DefaultErrorResponse> response =
+        request.exchange(
+            "/users/{id}",
+            HttpMethod.GET,
+            HttpEntity.EMPTY,
+            DefaultErrorResponse.class,
+            USER_ID_NOT_FOUND);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+    // METRICS VALIDATION
+    assertThat(count(PORT_CALLS_METRIC, tags)).isEqualTo(calls + 1);
+  }
+
+  @Test
+  @DisplayName("I want to time the notifications sent to the broker")
+  public void timeNotification() {
+    String[] tags = {"port", "amqp", "operation", "notifyUserDeletion", "outcome", "SUCCESS"};
+
+    long calls = count(PORT_CALLS_METRIC, tags);
+
+    request.exchange("/users/{id}", HttpMethod.DELETE, HttpEntity.EMPTY, Void.class, USER_ID_VALID);
+
+    // METRICS VALIDATION
+    assertThat(count(PORT_CALLS_METRIC, tags)).isEqualTo(calls + 1);
+    assertThat(collector.forChannel(brokerOutput.publishUserDeleted())).isNotNull();
+  }
+
+  private long count(String metric, String... tags) {
+    Timer timer = meterRegistry.find(metric).tags(tags).timer();
+    return timer != null ? timer.count() : 0;
+  }
+}
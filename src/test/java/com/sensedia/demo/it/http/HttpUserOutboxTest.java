@@ -0,0 +1,135 @@
+package com.sensedia.demo.it.http;
+
+import com.sensedia.demo.adapters.amqp.UserOutboxRelay;
+import com.sensedia.demo.adapters.dtos.UserCreationDto;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.adapters.repository.outbox.UserOutbox;
+import com.sensedia.demo.adapters.repository.outbox.UserOutboxEvent;
+import com.sensedia.demo.commons.BrokerResponse;
+import com.sensedia.demo.domains.User;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = {
+      "app.outbox.enabled=true",
+      "app.outbox.transactional=false",
+      "app.outbox.pollInterval=1h"
+    })
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+public class HttpUserOutboxTest extends AbstractUserTest {
+
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Autowired UserOutboxRelay userOutboxRelay;
+
+  @Autowired UserOutbox userOutbox;
+
+  @BeforeEach
+  public void setup() {
+    repository.deleteAll();
+    mongoTemplate.remove(UserOutboxEvent.class).all();
+  }
+
+  @Test
+  @DisplayName("I want the user creation event to be relayed from the outbox")
+  public void createUserThroughOutbox() throws IOException {
+    UserCreationDto userCreation = new UserCreationDto();
+
+    userCreation.setEmail("thiago.costa@sensedia.com");
+    userCreation.setName("Thiago Costa");
+
+    ResponseEntity<UserDto> response =
+        request.exchange("/users", HttpMethod.POST, new HttpEntity<>(userCreation), UserDto.class);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+    // OUTBOX VALIDATION
+    List<UserOutboxEvent> events = mongoTemplate.findAll(UserOutboxEvent.class);
+
+    assertThat(events).hasSize(1);
+    assertThat(events.get(0).getType()).isEqualTo(UserOutboxEvent.Type.CREATION);
+    assertThat(events.get(0).getUser().getId()).isEqualTo(response.getBody().getId());
+    assertThat(collector.forChannel(brokerOutput.publishUserCreated())).isNull();
+
+    // NOTIFICATION VALIDATION
+    userOutboxRelay.drain();
+
+    BrokerResponse brokerResponse = collector.forChannel(brokerOutput.publishUserCreated());
+
+    assertThat(brokerResponse.getPayload(UserDto.class).getId())
+        .isEqualTo(response.getBody().getId());
+    assertThat(mongoTemplate.findAll(UserOutboxEvent.class)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("I want each outbox event to be claimed by a single relay in creation order")
+  public void claimOutboxEventsOnce() {
+    List<String> emails =
+        List.of("first@sensedia.com", "second@sensedia.com", "third@sensedia.com");
+
+    for (String email : emails) {
+      User user = new User();
+      user.setEmail(email);
+
+      userOutbox.append(UserOutboxEvent.Type.CREATION, Collections.singletonList(user));
+    }
+
+    // CLAIM VALIDATION
+    List<UserOutboxEvent> first = userOutbox.claim("relay-a", 2, Duration.ofMinutes(1));
+    List<UserOutboxEvent> second = userOutbox.claim("relay-b", 10, Duration.ofMinutes(1));
+
+    assertThat(first)
+        .extracting(event -> event.getUser().getEmail())
+        .containsExactly("first@sensedia.com", "second@sensedia.com");
+    assertThat(first).extracting(UserOutboxEvent::getClaimedBy).containsOnly("relay-a");
+    assertThat(second)
+        .extracting(event -> event.getUser().getEmail())
+        .containsExactly("third@sensedia.com");
+    assertThat(userOutbox.claim("relay-c", 10, Duration.ofMinutes(1))).isEmpty();
+
+    // RELEASE VALIDATION
+    userOutbox.release("relay-a", Collections.singletonList(first.get(1).getId()));
+    userOutbox.remove("relay-c", Collections.singletonList(first.get(0).getId()));
+
+    assertThat(userOutbox.claim("relay-c", 10, Duration.ofMinutes(1)))
+        .extracting(event -> event.getUser().getEmail())
+        .containsExactly("second@sensedia.com");
+    assertThat(mongoTemplate.findAll(UserOutboxEvent.class)).hasSize(3);
+  }
+
+  @Test
+  @DisplayName("I want outbox events with an expired lease to be claimed again")
+  public void claimExpiredOutboxEvents() throws InterruptedException {
+    User user = new User();
+    user.setEmail("thiago.costa@sensedia.com");
+
+    userOutbox.append(UserOutboxEvent.Type.CREATION, Collections.singletonList(user));
+
+    assertThat(userOutbox.claim("relay-a", 10, Duration.ofMillis(50))).hasSize(1);
+    assertThat(userOutbox.claim("relay-b", 10, Duration.ofMinutes(1))).isEmpty();
+
+    Thread.sleep(100);
+
+    // CLAIM VALIDATION
+    assertThat(userOutbox.claim("relay-b", 10, Duration.ofMinutes(1)))
+        .extracting(UserOutboxEvent::getClaimedBy)
+        .containsExactly("relay-b");
+  }
+}
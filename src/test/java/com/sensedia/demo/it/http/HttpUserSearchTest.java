@@ -2,20 +2,34 @@ package com.sensedia.demo.it.http;
 
 import com.sensedia.commons.errors.domains.DefaultErrorResponse;
 import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.adapters.repository.indexes.UserIndexInitializer;
+import com.sensedia.demo.domains.User;
 import com.sensedia.demo.domains.UserStatus;
+import org.bson.Document;
 import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.sensedia.commons.headers.DefaultHeader.HEADER_ACCEPT_RANGE;
 import static com.sensedia.commons.headers.DefaultHeader.HEADER_CONTENT_RANGE;
+import static com.sensedia.commons.headers.DefaultHeader.HEADER_NEXT_CURSOR;
+import static com.sensedia.commons.headers.DefaultHeader.HEADER_TOTAL_TYPE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.HttpStatus.*;
 
@@ -23,6 +37,10 @@ import static org.springframework.http.HttpStatus.*;
 @TestMethodOrder(MethodOrderer.Alphanumeric.class)
 public class HttpUserSearchTest extends AbstractUserTest {
 
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Autowired UserIndexInitializer userIndexInitializer;
+
   @BeforeEach
   public void setup() throws IOException {
     repository.deleteAll();
@@ -93,6 +111,53 @@ public class HttpUserSearchTest extends AbstractUserTest {
     assertThat(response.getHeaders().get(HEADER_ACCEPT_RANGE).get(0)).isEqualTo("100");
   }
 
+  @Test
+  @DisplayName("I want to search for a user by a short part of the name")
+  public void searchUserByShortPartOfTheName() {
+    ResponseEntity<UserDto[]> response =
+        request.exchange(
+            "/users?page=1&limit=3&name=04", HttpMethod.GET, HttpEntity.EMPTY, UserDto[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    assertThat(response.getBody()).hasSize(1);
+
+    assertThat(response.getBody()[0].getName()).isEqualTo("Usuário 04");
+
+    assertThat(response.getHeaders().get(HEADER_CONTENT_RANGE).get(0)).isEqualTo("1");
+  }
+
+  @Test
+  @DisplayName("I want to search for a user by name ignoring the case")
+  public void searchUserByNameIgnoringCase() {
+    ResponseEntity<UserDto[]> response =
+        request.exchange(
+            "/users?page=1&limit=3&name=SUÁRIO 02",
+            HttpMethod.GET,
+            HttpEntity.EMPTY,
+            UserDto[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    assertThat(response.getBody()).hasSize(1);
+
+    assertThat(response.getBody()[0].getName()).isEqualTo("Usuário 02");
+  }
+
+  @Test
+  @DisplayName("I want to search for a user by name with regular expression characters")
+  public void searchUserByNameWithRegularExpressionCharacters() {
+    ResponseEntity<UserDto[]> response =
+        request.exchange(
+            "/users?page=1&limit=3&name=Usu.*(", HttpMethod.GET, HttpEntity.EMPTY, UserDto[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    assertThat(response.getBody()).hasSize(0);
+
+    assertThat(response.getHeaders().get(HEADER_CONTENT_RANGE).get(0)).isEqualTo("0");
+  }
+
   @Test
   @DisplayName("I want to search for a user by email")
   public void searchUserByEmail() {
@@ -417,6 +482,230 @@ public class HttpUserSearchTest extends AbstractUserTest {
     assertThat(usersResponse[1].getName()).isEqualTo("Usuário 05");
   }
 
+  @Test
+  @DisplayName("I want to search for a user on the next page using a cursor")
+  public void searchUserOnNextPageUsingCursor() {
+    ResponseEntity<UserDto[]> firstResponse =
+        request.exchange(
+            "/users?page=1&limit=3", HttpMethod.GET, HttpEntity.EMPTY, UserDto[].class);
+
+    assertThat(firstResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(firstResponse.getBody()).hasSize(3);
+    assertThat(firstResponse.getHeaders().get(HEADER_NEXT_CURSOR)).hasSize(1);
+
+    String cursor = firstResponse.getHeaders().get(HEADER_NEXT_CURSOR).get(0);
+
+    ResponseEntity<UserDto[]> response =
+        request.exchange(
+            "/users?limit=3&cursor=" + cursor, HttpMethod.GET, HttpEntity.EMPTY, UserDto[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    UserDto[] usersResponse = response.getBody();
+
+    assertThat(usersResponse).hasSize(2);
+
+    assertThat(response.getHeaders().get(HEADER_CONTENT_RANGE).get(0)).isEqualTo("5");
+    assertThat(response.getHeaders().get(HEADER_ACCEPT_RANGE).get(0)).isEqualTo("100");
+    assertThat(response.getHeaders().get(HEADER_NEXT_CURSOR)).isNull();
+
+    assertThat(usersResponse[0].getName()).isEqualTo("Usuário 04");
+    assertThat(usersResponse[1].getName()).isEqualTo("Usuário 05");
+  }
+
+  @Test
+  @DisplayName("I want to search for a user on the next page using a cursor in descending order")
+  public void searchUserOnNextPageUsingCursorDescendingOrder() {
+    ResponseEntity<UserDto[]> firstResponse =
+        request.exchange(
+            "/users?page=1&limit=2&sort=created_at&sort_type=desc",
+            HttpMethod.GET,
+            HttpEntity.EMPTY,
+            UserDto[].class);
+
+    String cursor = firstResponse.getHeaders().get(HEADER_NEXT_CURSOR).get(0);
+
+    ResponseEntity<UserDto[]> response =
+        request.exchange(
+            "/users?limit=2&cursor=" + cursor, HttpMethod.GET, HttpEntity.EMPTY, UserDto[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    UserDto[] usersResponse = response.getBody();
+
+    assertThat(usersResponse).hasSize(2);
+
+    assertThat(usersResponse[0].getName()).isEqualTo("Usuário 03");
+    assertThat(usersResponse[1].getName()).isEqualTo("Usuário 02");
+  }
+
+  @Test
+  @DisplayName("I want to search for a user with an invalid cursor")
+  public void searchUserWithInvalidCursor() {
+    ResponseEntity<DefaultErrorResponse> response =
+        request.exchange(
+            "/users?limit=3&cursor=invalid",
+            HttpMethod.GET,
+            HttpEntity.EMPTY,
+            DefaultErrorResponse.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(BAD_REQUEST);
+    assertThat(response.getBody().getStatus()).isEqualTo(BAD_REQUEST.value());
+    assertThat(response.getBody().getTitle()).isEqualTo(BAD_REQUEST.getReasonPhrase());
+    assertThat(response.getBody().getDetail()).isEqualTo("Invalid cursor [invalid]");
+    assertThat(response.getBody().getType()).isNull();
+  }
+
+  @Test
+  @DisplayName("I want to search for a user without counting the total")
+  public void searchUserWithoutCount() {
+    ResponseEntity<UserDto[]> response =
+        request.exchange(
+            "/users?page=1&limit=3&count=none", HttpMethod.GET, HttpEntity.EMPTY, UserDto[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    assertThat(response.getBody()).hasSize(3);
+
+    assertThat(response.getHeaders().get(HEADER_CONTENT_RANGE)).isNull();
+    assertThat(response.getHeaders().get(HEADER_TOTAL_TYPE).get(0)).isEqualTo("absent");
+    assertThat(response.getHeaders().get(HEADER_ACCEPT_RANGE).get(0)).isEqualTo("100");
+  }
+
+  @Test
+  @DisplayName("I want to search for a user counting the total concurrently")
+  public void searchUserWithConcurrentCount() {
+    ResponseEntity<UserDto[]> response =
+        request.exchange(
+            "/users?page=1&limit=3&count=concurrent",
+            HttpMethod.GET,
+            HttpEntity.EMPTY,
+            UserDto[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    assertThat(response.getBody()).hasSize(3);
+
+    assertThat(response.getHeaders().get(HEADER_CONTENT_RANGE).get(0)).isEqualTo("5");
+    assertThat(response.getHeaders().get(HEADER_TOTAL_TYPE).get(0)).isEqualTo("exact");
+  }
+
+  @Test
+  @DisplayName("I want to search for a user with an estimated total")
+  public void searchUserWithEstimatedCount() {
+    ResponseEntity<UserDto[]> response =
+        request.exchange(
+            "/users?page=1&limit=3&count=estimated",
+            HttpMethod.GET,
+            HttpEntity.EMPTY,
+            UserDto[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    assertThat(response.getBody()).hasSize(3);
+
+    assertThat(response.getHeaders().get(HEADER_CONTENT_RANGE).get(0)).isEqualTo("5");
+    assertThat(response.getHeaders().get(HEADER_TOTAL_TYPE).get(0)).isEqualTo("estimated");
+  }
+
+  @Test
+  @DisplayName("I want to search for a user with an invalid count")
+  public void searchUserWithInvalidCount() {
+    ResponseEntity<DefaultErrorResponse> response =
+        request.exchange(
+            "/users?page=1&limit=3&count=invalid",
+            HttpMethod.GET,
+            HttpEntity.EMPTY,
+            DefaultErrorResponse.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(BAD_REQUEST);
+    assertThat(response.getBody().getDetail())
+        .isEqualTo(
+            "Invalid count [invalid], accepted values: [exact, concurrent, estimated, none]");
+  }
+
+  @Test
+  @DisplayName("I want to see the index usage of the searched query shapes")
+  public void searchUserAndSeeIndexUsage() {
+    request.exchange(
+        "/users?page=1&limit=3&status=ACTIVE&sort=email",
+        HttpMethod.GET,
+        HttpEntity.EMPTY,
+        UserDto[].class);
+
+    ResponseEntity<String> response =
+        request.exchange("/actuator/userindexes", HttpMethod.GET, HttpEntity.EMPTY, String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    assertThat(response.getBody()).contains("search_status_email");
+    assertThat(response.getBody()).contains("filters=[status] sort=email");
+  }
+
+  @Test
+  @DisplayName("I want indexes that conflict with the catalogue to be kept by default")
+  public void keepConflictingIndexes() {
+    plantConflictingIndex();
+
+    userIndexInitializer.initialize();
+
+    // INDEX VALIDATION
+    List<IndexInfo> indexes = mongoTemplate.indexOps(User.class).getIndexInfo();
+
+    assertThat(searchNameKeys(indexes)).containsExactly("name", "_id");
+    assertThat(indexes).extracting(IndexInfo::getName).contains("search_email", "nameTokens_1");
+
+    mongoTemplate.indexOps(User.class).dropIndex("search_name");
+    userIndexInitializer.initialize();
+  }
+
+  @Test
+  @DisplayName("I want indexes that conflict with the catalogue to be replaced when enabled")
+  public void replaceConflictingIndexes() {
+    plantConflictingIndex();
+
+    ReflectionTestUtils.setField(userIndexInitializer, "dropConflictingIndexes", true);
+
+    try {
+      userIndexInitializer.initialize();
+    } finally {
+      ReflectionTestUtils.setField(userIndexInitializer, "dropConflictingIndexes", false);
+    }
+
+    // INDEX VALIDATION
+    List<IndexInfo> indexes = mongoTemplate.indexOps(User.class).getIndexInfo();
+
+    assertThat(searchNameKeys(indexes)).containsExactly("name", "_id", "createdAt");
+    assertThat(indexes).extracting(IndexInfo::getName).contains("nameTokens_1");
+  }
+
+  @Test
+  @DisplayName("I want users without search fields to be backfilled without losing other fields")
+  public void backfillSearchFields() {
+    mongoTemplate.insert(
+        new Document("_id", "backfill-user")
+            .append("name", "Thiago Backfill")
+            .append("email", "thiago.backfill@sensedia.com")
+            .append("status", UserStatus.DISABLE.name())
+            .append("createdAt", Instant.parse("2020-01-01T00:00:00Z")),
+        mongoTemplate.getCollectionName(User.class));
+
+    userIndexInitializer.initialize();
+
+    // DATABASE VALIDATION
+    Document user =
+        mongoTemplate
+            .getCollection(mongoTemplate.getCollectionName(User.class))
+            .find(new Document("_id", "backfill-user"))
+            .first();
+
+    assertThat(user.getString("nameNormalized")).isEqualTo("thiago backfill");
+    assertThat(user.getList("nameTokens", String.class)).contains("bac", "fil");
+    assertThat(user.getString("emailNormalized")).isEqualTo("thiago.backfill@sensedia.com");
+    assertThat(user.getString("status")).isEqualTo(UserStatus.DISABLE.name());
+    assertThat(user.get("createdAt")).isNotNull();
+  }
+
   @Test
   @DisplayName("I want to search for a user with zero limit")
   public void searchUserWithZeroLimit() {
@@ -490,4 +779,22 @@ public class HttpUserSearchTest extends AbstractUserTest {
       undoDatabaseError();
     }
   }
+
+  private void plantConflictingIndex() {
+    mongoTemplate.indexOps(User.class).dropIndex("search_name");
+    mongoTemplate
+        .indexOps(User.class)
+        .ensureIndex(
+            new Index("name", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("search_name"));
+  }
+
+  private List<String> searchNameKeys(List<IndexInfo> indexes) {
+    return indexes.stream()
+        .filter(index -> index.getName().equals("search_name"))
+        .flatMap(index -> index.getIndexFields().stream())
+        .map(IndexField::getKey)
+        .collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,106 @@
+package com.sensedia.demo.it.http;
+
+import com.mongodb.MongoTimeoutException;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.adapters.repository.indexes.SearchTimings;
+import com.sensedia.demo.adapters.repository.indexes.SlowSearchShape;
+import com.sensedia.demo.adapters.repository.indexes.SlowSearchTracker;
+import com.sensedia.demo.domains.search.UserSearch;
+import com.sensedia.demo.domains.search.UserSearchBuild;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = {"app.repository.slowSearch.threshold=0ms"})
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+public class HttpUserSlowSearchTest extends AbstractUserTest {
+
+  @Autowired SlowSearchTracker slowSearchTracker;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    repository.deleteAll();
+    loadDatabase();
+  }
+
+  @Test
+  @DisplayName("I want to see the searches slower than the threshold")
+  public void searchUserAndSeeSlowSearches() {
+    request.exchange(
+        "/users?page=1&limit=3&status=ACTIVE&sort=email",
+        HttpMethod.GET,
+        HttpEntity.EMPTY,
+        UserDto[].class);
+
+    ResponseEntity<String> response =
+        request.exchange(
+            "/actuator/userslowsearches", HttpMethod.GET, HttpEntity.EMPTY, String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    assertThat(response.getBody()).contains("filters=[status] sort=email");
+    assertThat(response.getBody()).contains("\"occurrences\":1");
+    assertThat(response.getBody()).contains("count=").contains("find=");
+  }
+
+  @Test
+  @DisplayName("I want failed searches to be tracked as slow searches")
+  public void trackFailedSlowSearches() {
+    UserSearch userSearch = UserSearchBuild.builder().page(1).name("thiago").sort("name").build();
+
+    slowSearchTracker.record(
+        userSearch, new Query(), 3, new SearchTimings(), new MongoTimeoutException("timeout"));
+
+    // SLOW SEARCH VALIDATION
+    assertThat(slowSearchTracker.getTopShapes())
+        .filteredOn(shape -> shape.getShape().equals("filters=[name] sort=name"))
+        .extracting(SlowSearchShape::getOccurrences, SlowSearchShape::getFailures)
+        .containsExactly(tuple(1L, 1L));
+  }
+
+  @Test
+  @DisplayName("I want slow searches older than the window to leave the totals")
+  public void expireSlowSearchesOutsideTheWindow() throws InterruptedException {
+    Duration window = (Duration) ReflectionTestUtils.getField(slowSearchTracker, "window");
+    ReflectionTestUtils.setField(slowSearchTracker, "window", Duration.ofMillis(300));
+
+    try {
+      UserSearch userSearch =
+          UserSearchBuild.builder().page(1).email("thiago").sort("email").build();
+
+      slowSearchTracker.record(userSearch, new Query(), 3, new SearchTimings(), null);
+
+      SlowSearchShape shape =
+          slowSearchTracker.getTopShapes().stream()
+              .filter(slowShape -> slowShape.getShape().equals("filters=[email] sort=email"))
+              .findFirst()
+              .orElseThrow();
+
+      // SLOW SEARCH VALIDATION
+      assertThat(shape.getOccurrences()).isEqualTo(1);
+
+      Thread.sleep(400);
+
+      assertThat(shape.getOccurrences()).isZero();
+      assertThat(shape.getTotal()).isZero();
+      assertThat(slowSearchTracker.getTopShapes()).doesNotContain(shape);
+    } finally {
+      ReflectionTestUtils.setField(slowSearchTracker, "window", window);
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package com.sensedia.demo.it.http;
+
+import com.sensedia.commons.errors.domains.DefaultErrorResponse;
+import com.sensedia.demo.adapters.dtos.UserCreationDto;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.adapters.dtos.UserUpdateDto;
+import com.sensedia.demo.applications.ReactiveUserApplication;
+import com.sensedia.demo.domains.UserStatus;
+import com.sensedia.demo.ports.AmqpPort;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import static com.sensedia.commons.headers.DefaultHeader.HEADER_CONTENT_RANGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("reactive")
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "spring.main.web-application-type=reactive")
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+public class ReactiveHttpUserTest extends AbstractUserTest {
+
+  @Autowired ReactiveUserApplication reactiveUserApplication;
+
+  @Autowired AmqpPort amqpPort;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    repository.deleteAll();
+    loadDatabase();
+  }
+
+  @Test
+  @DisplayName("I want to create a user on the reactive stack")
+  public void createUserSuccessfully() {
+    UserCreationDto userCreationDto = new UserCreationDto();
+    userCreationDto.setEmail("thiago.costa@sensedia.com");
+    userCreationDto.setName("Thiago Costa");
+
+    ResponseEntity<UserDto> response =
+        request.exchange(
+            "/users", HttpMethod.POST, new HttpEntity<>(userCreationDto), UserDto.class);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(isUUID(response.getBody().getId())).isTrue();
+    assertThat(response.getBody().getStatus()).isEqualTo(UserStatus.ACTIVE.toString());
+
+    // DATABASE VALIDATION
+    assertThat(repository.findById(response.getBody().getId())).isPresent();
+  }
+
+  @Test
+  @DisplayName("I want a failed creation event to keep the user created on the reactive stack")
+  public void createUserWhenPublishFails() {
+    AmqpPort failingAmqpPort = mock(AmqpPort.class);
+    when(failingAmqpPort.notifyUserCreation(any()))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker nack")));
+
+    ReflectionTestUtils.setField(reactiveUserApplication, "amqpPort", failingAmqpPort);
+
+    try {
+      UserCreationDto userCreationDto = new UserCreationDto();
+      userCreationDto.setEmail("thiago.costa@sensedia.com");
+      userCreationDto.setName("Thiago Costa");
+
+      ResponseEntity<UserDto> response =
+          request.exchange(
+              "/users", HttpMethod.POST, new HttpEntity<>(userCreationDto), UserDto.class);
+
+      // RESPONSE VALIDATION
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+      // DATABASE VALIDATION
+      assertThat(repository.findById(response.getBody().getId())).isPresent();
+
+      // NOTIFICATION VALIDATION
+      verify(failingAmqpPort).notifyUserCreation(any());
+    } finally {
+      ReflectionTestUtils.setField(reactiveUserApplication, "amqpPort", amqpPort);
+    }
+  }
+
+  @Test
+  @DisplayName("I want to get a user on the reactive stack")
+  public void getUserSuccessfully() {
+    ResponseEntity<UserDto> response =
+        request.exchange(
+            "/users/{id}", HttpMethod.GET, HttpEntity.EMPTY, UserDto.class, USER_ID_VALID);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody().getEmail()).isEqualTo("usuario03@sensedia.com");
+  }
+
+  @Test
+  @DisplayName("I want to get a user that does not exist on the reactive stack")
+  public void getUserThatDoesNotExist() {
+    ResponseEntity<DefaultErrorResponse> response =
+        request.exchange(
+            "/users/{id}",
+            HttpMethod.GET,
+            HttpEntity.EMPTY,
+            DefaultErrorResponse.class,
+            USER_ID_NOT_FOUND);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    assertThat(response.getBody().getDetail()).isEqualTo("User not found");
+  }
+
+  @Test
+  @DisplayName("I want to update a user without email on the reactive stack")
+  public void updateUserWithoutEmail() {
+    UserUpdateDto userUpdateDto = new UserUpdateDto();
+    userUpdateDto.setName("Thiago Costa");
+    userUpdateDto.setStatus(UserStatus.DISABLE.name());
+
+    ResponseEntity<DefaultErrorResponse> response =
+        request.exchange(
+            "/users/{id}",
+            HttpMethod.PUT,
+            new HttpEntity<>(userUpdateDto),
+            DefaultErrorResponse.class,
+            USER_ID_VALID);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getBody().getDetail())
+        .isEqualTo("email é obrigatório ou está no formato inválido.");
+  }
+
+  @Test
+  @DisplayName("I want to delete a user on the reactive stack")
+  public void deleteUserSuccessfully() {
+    ResponseEntity<Void> response =
+        request.exchange(
+            "/users/{id}", HttpMethod.DELETE, HttpEntity.EMPTY, Void.class, USER_ID_VALID);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+    // DATABASE VALIDATION
+    assertThat(repository.findById(USER_ID_VALID)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("I want to search users on the reactive stack")
+  public void searchUsers() {
+    ResponseEntity<UserDto[]> response =
+        request.exchange(
+            "/users?status=active&limit=2", HttpMethod.GET, HttpEntity.EMPTY, UserDto[].class);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).hasSize(2);
+    assertThat(response.getHeaders().getFirst(HEADER_CONTENT_RANGE)).isEqualTo("4");
+  }
+
+  @Test
+  @DisplayName("I want to export users as ndjson on the reactive stack")
+  public void exportUsers() {
+    ResponseEntity<String> response =
+        request.exchange("/users/export", HttpMethod.GET, HttpEntity.EMPTY, String.class);
+
+    // RESPONSE VALIDATION
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody().split("\n")).hasSize(5);
+  }
+}
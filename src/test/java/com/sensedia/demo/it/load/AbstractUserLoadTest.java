@@ -0,0 +1,89 @@
+package com.sensedia.demo.it.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sensedia.demo.ports.RepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+public abstract class AbstractUserLoadTest {
+  private static final Logger log = LoggerFactory.getLogger(AbstractUserLoadTest.class);
+
+  private static final int USERS = Integer.getInteger("load.users", 1000);
+  private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 500);
+  private static final Duration DURATION =
+      Duration.ofSeconds(Long.getLong("load.durationSeconds", 30));
+
+  @Autowired RepositoryPort repository;
+
+  @Autowired ObjectMapper mapper;
+
+  @LocalServerPort int port;
+
+  private final LoadDriver loadDriver = new LoadDriver();
+  private List<String> ids;
+
+  abstract String stack();
+
+  @BeforeEach
+  public void setup() {
+    ids = UserSeeder.seed(repository, USERS);
+  }
+
+  @Test
+  @DisplayName("I want to measure point reads under concurrent connections")
+  public void pointReads() throws Exception {
+    LoadResult result = run("point-reads", () -> get("/users/" + ids.get(random(ids.size()))));
+
+    assertThat(result.getErrors()).isZero();
+  }
+
+  @Test
+  @DisplayName("I want to measure searches under concurrent connections")
+  public void searches() throws Exception {
+    LoadResult result =
+        run("searches", () -> get("/users?status=active&name=user&limit=20&count=none"));
+
+    assertThat(result.getErrors()).isZero();
+  }
+
+  private LoadResult run(String scenario, Supplier<HttpRequest> requests)
+      throws InterruptedException, IOException {
+    String name = stack() + "-" + scenario;
+
+    LoadResult result = loadDriver.run(name, CONCURRENCY, DURATION, requests);
+
+    log.info("Load test result: {}", result);
+
+    LoadReports.write(mapper, name, result);
+
+    return result;
+  }
+
+  private HttpRequest get(String path) {
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+        .timeout(Duration.ofSeconds(30))
+        .GET()
+        .build();
+  }
+
+  private int random(int bound) {
+    return ThreadLocalRandom.current().nextInt(bound);
+  }
+}
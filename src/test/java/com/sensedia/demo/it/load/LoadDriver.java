@@ -0,0 +1,148 @@
+package com.sensedia.demo.it.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class LoadDriver {
+
+  private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.MINUTES.toNanos(1);
+
+  private final HttpClient client =
+      HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_1_1)
+          .connectTimeout(Duration.ofSeconds(10))
+          .build();
+
+  public CompletableFuture<Boolean> send(HttpRequest request) {
+    return client
+        .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+        .thenApply(response -> response.statusCode() < 400);
+  }
+
+  public CompletableFuture<Boolean> send(HttpRequest request, Consumer<String> body) {
+    return client
+        .sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        .thenApply(
+            response -> {
+              if (response.statusCode() >= 400) return false;
+
+              body.accept(response.body());
+              return true;
+            });
+  }
+
+  public LoadResult run(
+      String name, int concurrency, Duration duration, Supplier<HttpRequest> requests)
+      throws InterruptedException {
+    Recorder recorder = new Recorder();
+    Semaphore inFlight = new Semaphore(concurrency);
+
+    long start = System.nanoTime();
+    long deadline = start + duration.toNanos();
+
+    while (System.nanoTime() < deadline) {
+      inFlight.acquire();
+      recorder.record(send(requests.get()), inFlight);
+    }
+
+    inFlight.acquire(concurrency);
+
+    return recorder.toResult(name, concurrency, elapsedSeconds(start));
+  }
+
+  public List<LoadResult> run(
+      List<LoadOperation> operations, int maximumInFlight, Duration duration)
+      throws InterruptedException {
+    Map<LoadOperation, Recorder> recorders = new LinkedHashMap<>();
+    List<ScheduledFuture<?>> schedules = new ArrayList<>();
+    Semaphore inFlight = new Semaphore(maximumInFlight);
+
+    ScheduledExecutorService scheduler =
+        Executors.newScheduledThreadPool(
+            operations.size(), new CustomizableThreadFactory("load-scheduler-"));
+
+    long start = System.nanoTime();
+
+    for (LoadOperation operation : operations) {
+      if (operation.getRate() <= 0) continue;
+
+      Recorder recorder = new Recorder();
+      recorders.put(operation, recorder);
+
+      long period = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / operation.getRate()));
+
+      schedules.add(
+          scheduler.scheduleAtFixedRate(
+              () -> {
+                if (inFlight.tryAcquire()) recorder.record(operation.execute(), inFlight);
+                else recorder.dropped.increment();
+              },
+              0,
+              period,
+              TimeUnit.NANOSECONDS));
+    }
+
+    TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+
+    schedules.forEach(schedule -> schedule.cancel(false));
+    scheduler.shutdown();
+    scheduler.awaitTermination(10, TimeUnit.SECONDS);
+
+    inFlight.tryAcquire(maximumInFlight, 1, TimeUnit.MINUTES);
+
+    double seconds = elapsedSeconds(start);
+    List<LoadResult> results = new ArrayList<>();
+
+    recorders.forEach(
+        (operation, recorder) ->
+            results.add(recorder.toResult(operation.getName(), maximumInFlight, seconds)));
+
+    return results;
+  }
+
+  private double elapsedSeconds(long start) {
+    return (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+  }
+
+  private static class Recorder {
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_LATENCY, 3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private void record(CompletableFuture<Boolean> execution, Semaphore inFlight) {
+      long start = System.nanoTime();
+
+      execution.whenComplete(
+          (success, e) -> {
+            latencies.recordValue(Math.min(System.nanoTime() - start, HIGHEST_TRACKABLE_LATENCY));
+
+            if (e != null || !Boolean.TRUE.equals(success)) errors.increment();
+
+            inFlight.release();
+          });
+    }
+
+    private LoadResult toResult(String name, int concurrency, double seconds) {
+      return new LoadResult(name, concurrency, errors.sum(), dropped.sum(), seconds, latencies);
+    }
+  }
+}
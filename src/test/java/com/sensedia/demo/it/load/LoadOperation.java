@@ -0,0 +1,29 @@
+package com.sensedia.demo.it.load;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public class LoadOperation {
+
+  private final String name;
+  private final double rate;
+  private final Supplier<CompletableFuture<Boolean>> action;
+
+  public LoadOperation(String name, double rate, Supplier<CompletableFuture<Boolean>> action) {
+    this.name = name;
+    this.rate = rate;
+    this.action = action;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public double getRate() {
+    return rate;
+  }
+
+  CompletableFuture<Boolean> execute() {
+    return action.get();
+  }
+}
@@ -0,0 +1,22 @@
+package com.sensedia.demo.it.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+class LoadReports {
+
+  private static final Path RESULTS_DIRECTORY = Paths.get("target", "load-tests");
+
+  private LoadReports() {}
+
+  static void write(ObjectMapper mapper, String name, Object results) throws IOException {
+    Files.createDirectories(RESULTS_DIRECTORY);
+    mapper
+        .writerWithDefaultPrettyPrinter()
+        .writeValue(RESULTS_DIRECTORY.resolve(name + ".json").toFile(), results);
+  }
+}
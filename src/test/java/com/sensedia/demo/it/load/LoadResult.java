@@ -0,0 +1,100 @@
+package com.sensedia.demo.it.load;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.HdrHistogram.Histogram;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+public class LoadResult {
+
+  private static final double NANOS_PER_MILLI = 1_000_000D;
+
+  private final String name;
+  private final int concurrency;
+  private final long requests;
+  private final long errors;
+  private final long dropped;
+  private final double throughput;
+  private final double p50;
+  private final double p99;
+  private final double p999;
+  private final double max;
+
+  LoadResult(
+      String name,
+      int concurrency,
+      long errors,
+      long dropped,
+      double seconds,
+      Histogram latencies) {
+    this.name = name;
+    this.concurrency = concurrency;
+    this.requests = latencies.getTotalCount();
+    this.errors = errors;
+    this.dropped = dropped;
+    this.throughput = requests / seconds;
+    this.p50 = latencies.getValueAtPercentile(50) / NANOS_PER_MILLI;
+    this.p99 = latencies.getValueAtPercentile(99) / NANOS_PER_MILLI;
+    this.p999 = latencies.getValueAtPercentile(99.9) / NANOS_PER_MILLI;
+    this.max = latencies.getMaxValue() / NANOS_PER_MILLI;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  public long getRequests() {
+    return requests;
+  }
+
+  public long getErrors() {
+    return errors;
+  }
+
+  public long getDropped() {
+    return dropped;
+  }
+
+  public double getThroughput() {
+    return throughput;
+  }
+
+  @JsonProperty("p50_ms")
+  public double getP50() {
+    return p50;
+  }
+
+  @JsonProperty("p99_ms")
+  public double getP99() {
+    return p99;
+  }
+
+  @JsonProperty("p999_ms")
+  public double getP999() {
+    return p999;
+  }
+
+  @JsonProperty("max_ms")
+  public double getMax() {
+    return max;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("name", name)
+        .append("concurrency", concurrency)
+        .append("requests", requests)
+        .append("errors", errors)
+        .append("dropped", dropped)
+        .append("throughput", throughput)
+        .append("p50", p50)
+        .append("p99", p99)
+        .append("p999", p999)
+        .append("max", max)
+        .toString();
+  }
+}
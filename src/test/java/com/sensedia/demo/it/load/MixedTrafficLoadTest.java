@@ -0,0 +1,229 @@
+package com.sensedia.demo.it.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sensedia.demo.adapters.amqp.config.BrokerInput;
+import com.sensedia.demo.adapters.amqp.config.BrokerOutput;
+import com.sensedia.demo.adapters.dtos.UserCreationDto;
+import com.sensedia.demo.adapters.dtos.UserDeletionDto;
+import com.sensedia.demo.adapters.dtos.UserDto;
+import com.sensedia.demo.adapters.dtos.UserUpdateDto;
+import com.sensedia.demo.domains.UserStatus;
+import com.sensedia.demo.ports.RepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.cloud.stream.test.binder.MessageCollector;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.sensedia.commons.headers.DefaultHeader.APP_ID_HEADER_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "app.http.limits.enabled=${load.limits:false}")
+public class MixedTrafficLoadTest {
+  private static final Logger log = LoggerFactory.getLogger(MixedTrafficLoadTest.class);
+
+  private static final int USERS = Integer.getInteger("load.users", 10_000);
+  private static final int MAXIMUM_IN_FLIGHT = Integer.getInteger("load.maximumInFlight", 500);
+  private static final int AMQP_THREADS = Integer.getInteger("load.amqpThreads", 16);
+  private static final Duration DURATION =
+      Duration.ofSeconds(Long.getLong("load.durationSeconds", 30));
+
+  @Autowired RepositoryPort repository;
+
+  @Autowired ObjectMapper mapper;
+
+  @Autowired MessageCollector collector;
+
+  @Autowired BrokerInput brokerInput;
+
+  @Autowired BrokerOutput brokerOutput;
+
+  @LocalServerPort int port;
+
+  private final LoadDriver loadDriver = new LoadDriver();
+  private final Queue<String> deletableIds = new ConcurrentLinkedQueue<>();
+
+  private List<String> stableIds;
+  private ExecutorService amqpExecutor;
+
+  @BeforeEach
+  public void setup() {
+    List<String> ids = UserSeeder.seed(repository, USERS);
+
+    stableIds = ids.subList(0, ids.size() / 2);
+    deletableIds.clear();
+    deletableIds.addAll(ids.subList(ids.size() / 2, ids.size()));
+
+    amqpExecutor =
+        Executors.newFixedThreadPool(AMQP_THREADS, new CustomizableThreadFactory("load-amqp-"));
+  }
+
+  @AfterEach
+  public void tearDown() throws InterruptedException {
+    amqpExecutor.shutdown();
+    amqpExecutor.awaitTermination(10, TimeUnit.SECONDS);
+
+    clear(brokerOutput.publishUserCreated());
+    clear(brokerOutput.publishUserUpdated());
+    clear(brokerOutput.publishUserDeleted());
+    clear(brokerOutput.publishUserOperationError());
+  }
+
+  @Test
+  @DisplayName("I want to measure mixed http and amqp traffic at fixed rates")
+  public void mixedTraffic() throws Exception {
+    List<LoadOperation> operations =
+        List.of(
+            operation("http-create", 20, () -> loadDriver.send(post(), this::addDeletable)),
+            operation("http-get", 200, () -> loadDriver.send(get("/users/" + stableId()))),
+            operation(
+                "http-search",
+                50,
+                () -> loadDriver.send(get("/users?status=active&name=user&limit=20&count=none"))),
+            operation("http-update", 20, () -> loadDriver.send(put(stableId()))),
+            operation("http-delete", 10, this::deleteOverHttp),
+            operation("amqp-create", 20, () -> publish(this::publishCreation)),
+            operation("amqp-update", 20, () -> publish(this::publishUpdate)),
+            operation("amqp-delete", 10, () -> publish(this::publishDeletion)));
+
+    List<LoadResult> results = loadDriver.run(operations, MAXIMUM_IN_FLIGHT, DURATION);
+
+    results.forEach(result -> log.info("Load test result: {}", result));
+
+    LoadReports.write(mapper, "mixed-traffic", results);
+
+    assertThat(results).allMatch(result -> result.getErrors() == 0);
+  }
+
+  private LoadOperation operation(
+      String name, double defaultRate, Supplier<CompletableFuture<Boolean>> action) {
+    String rate = System.getProperty("load.rate." + name);
+    return new LoadOperation(name, rate != null ? Double.parseDouble(rate) : defaultRate, action);
+  }
+
+  private CompletableFuture<Boolean> deleteOverHttp() {
+    String id = deletableIds.poll();
+
+    if (id == null) return CompletableFuture.completedFuture(false);
+
+    return loadDriver.send(request("/users/" + id).DELETE().build());
+  }
+
+  private CompletableFuture<Boolean> publish(Supplier<Boolean> publication) {
+    return CompletableFuture.supplyAsync(publication, amqpExecutor);
+  }
+
+  private boolean publishCreation() {
+    return send(brokerInput.subscribeUserCreationRequested(), creation());
+  }
+
+  private boolean publishUpdate() {
+    UserUpdateDto update = update();
+    update.setId(stableId());
+    return send(brokerInput.subscribeUserUpdateRequested(), update);
+  }
+
+  private boolean publishDeletion() {
+    String id = deletableIds.poll();
+    if (id == null) return false;
+
+    return send(brokerInput.subscribeUserDeletionRequested(), new UserDeletionDto(id));
+  }
+
+  private boolean send(MessageChannel channel, Object payload) {
+    return channel.send(
+        MessageBuilder.withPayload(payload).setHeader(APP_ID_HEADER_NAME, "app-test").build());
+  }
+
+  private HttpRequest get(String path) {
+    return request(path).GET().build();
+  }
+
+  private HttpRequest post() {
+    return request("/users").POST(json(creation())).build();
+  }
+
+  private HttpRequest put(String id) {
+    return request("/users/" + id).PUT(json(update())).build();
+  }
+
+  private HttpRequest.Builder request(String path) {
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+        .timeout(Duration.ofSeconds(30))
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+  }
+
+  private HttpRequest.BodyPublisher json(Object body) {
+    try {
+      return HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body));
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private UserCreationDto creation() {
+    String suffix = UUID.randomUUID().toString();
+
+    UserCreationDto creation = new UserCreationDto();
+    creation.setName("Load User " + suffix);
+    creation.setEmail("load.user." + suffix + "@sensedia.com");
+    return creation;
+  }
+
+  private UserUpdateDto update() {
+    String suffix = UUID.randomUUID().toString();
+
+    UserUpdateDto update = new UserUpdateDto();
+    update.setName("Load User " + suffix);
+    update.setEmail("load.user." + suffix + "@sensedia.com");
+    update.setStatus(UserStatus.ACTIVE.name());
+    return update;
+  }
+
+  private void addDeletable(String body) {
+    try {
+      deletableIds.offer(mapper.readValue(body, UserDto.class).getId());
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private String stableId() {
+    return stableIds.get(ThreadLocalRandom.current().nextInt(stableIds.size()));
+  }
+
+  private void clear(MessageChannel channel) {
+    collector.forChannel(channel).clear();
+  }
+}
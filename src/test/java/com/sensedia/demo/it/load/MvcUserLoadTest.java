@@ -0,0 +1,15 @@
+package com.sensedia.demo.it.load;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "app.http.limits.enabled=${load.limits:false}")
+public class MvcUserLoadTest extends AbstractUserLoadTest {
+
+  @Override
+  String stack() {
+    return "mvc";
+  }
+}
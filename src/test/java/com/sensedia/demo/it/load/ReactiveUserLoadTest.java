@@ -0,0 +1,17 @@
+package com.sensedia.demo.it.load;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("reactive")
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "spring.main.web-application-type=reactive")
+public class ReactiveUserLoadTest extends AbstractUserLoadTest {
+
+  @Override
+  String stack() {
+    return "reactive";
+  }
+}
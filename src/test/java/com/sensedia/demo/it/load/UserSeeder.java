@@ -0,0 +1,47 @@
+package com.sensedia.demo.it.load;
+
+import com.sensedia.demo.domains.User;
+import com.sensedia.demo.domains.UserStatus;
+import com.sensedia.demo.ports.RepositoryPort;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+class UserSeeder {
+
+  private static final int CHUNK_SIZE = 1000;
+
+  private UserSeeder() {}
+
+  static List<String> seed(RepositoryPort repository, int count) {
+    repository.deleteAll();
+
+    List<String> ids = new ArrayList<>(count);
+    List<User> users = new ArrayList<>(CHUNK_SIZE);
+
+    for (int index = 0; index < count; index++) {
+      users.add(generate(index));
+
+      if (users.size() == CHUNK_SIZE || index == count - 1) {
+        repository.saveAll(users);
+        ids.addAll(users.stream().map(User::getId).collect(Collectors.toList()));
+        users.clear();
+      }
+    }
+
+    return ids;
+  }
+
+  private static User generate(int index) {
+    User user = new User();
+    user.setId(UUID.randomUUID().toString());
+    user.setName("Load User " + index);
+    user.setEmail("load.user." + index + "@sensedia.com");
+    user.setStatus(index % 10 == 0 ? UserStatus.DISABLE : UserStatus.ACTIVE);
+    user.setCreatedAt(Instant.now());
+    return user;
+  }
+}